@@ -0,0 +1,25 @@
+package com.resourcefulbees.resourcefulbees;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import com.resourcefulbees.resourcefulbees.config.Config;
+import net.minecraft.util.registry.Bootstrap;
+
+/**
+ * Sets up just enough of the game for the benchmarks to run outside of a Minecraft instance:
+ * the vanilla registries and an in-memory copy of the common config with its default values.
+ */
+public class BenchmarkBootstrap {
+
+    private static boolean initialized;
+
+    private BenchmarkBootstrap() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static synchronized void init() {
+        if (initialized) return;
+        Bootstrap.register();
+        Config.CommonConfig.COMMON_CONFIG.setConfig(CommentedConfig.inMemory());
+        initialized = true;
+    }
+}
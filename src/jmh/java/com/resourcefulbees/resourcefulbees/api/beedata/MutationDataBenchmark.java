@@ -0,0 +1,46 @@
+package com.resourcefulbees.resourcefulbees.api.beedata;
+
+import com.google.gson.Gson;
+import com.resourcefulbees.resourcefulbees.BenchmarkBootstrap;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.fluid.Fluids;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationDataBenchmark {
+
+    private static final String BEE_JSON = "{\"flower\": \"ALL\", \"MutationData\": {\"hasMutation\": true, \"mutations\": ["
+            + "{\"type\": \"BLOCK_TO_BLOCK\", \"inputID\": \"minecraft:stone\", \"outputs\": [{\"outputID\": \"minecraft:coal_ore\"}]},"
+            + "{\"type\": \"BLOCK_TO_ITEM\", \"inputID\": \"minecraft:gravel\", \"outputs\": [{\"outputID\": \"minecraft:flint\"}]}]}}";
+
+    private MutationData mutationData;
+    private final Block[] blocks = {Blocks.STONE, Blocks.DIRT, Blocks.GRAVEL, Blocks.AIR};
+    private final FluidState empty = Fluids.EMPTY.getDefaultState();
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        CustomBeeData beeData = new Gson().fromJson(BEE_JSON, CustomBeeData.class);
+        beeData.setName("benchmark");
+        mutationData = beeData.getMutationData();
+        mutationData.initMutations(beeData);
+    }
+
+    @Benchmark
+    public int lookup() {
+        int found = 0;
+        for (Block block : blocks) {
+            if (mutationData.getBlockMutation(block, empty) != null || mutationData.getItemMutation(block, empty) != null) found++;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,97 @@
+package com.resourcefulbees.resourcefulbees.client.render.tileentity;
+
+import com.mojang.blaze3d.matrix.MatrixStack;
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+import com.resourcefulbees.resourcefulbees.utils.BakedCuboid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-frame cost of drawing a honey tank's fluid into a vertex consumer that only sums what it's given, so no
+ * window or GL context is needed. {@code renderBaked} is the path {@link RenderHoneyTank} takes every frame and
+ * should show no allocation with {@code -Pjmh.profilers=gc} ({@code gc.alloc.rate.norm}); {@code bakeEveryFrame}
+ * is what building the geometry each frame costs for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HoneyTankRenderBenchmark {
+
+    private static final float MIN_U = 0.25f;
+    private static final float MAX_U = 0.28125f;
+    private static final float MIN_V = 0.5f;
+    private static final float MAX_V = 0.53125f;
+
+    @Param({"1", "50", "100"})
+    public int level;
+
+    private final MatrixStack matrix = new MatrixStack();
+    private final SummingVertexBuilder buffer = new SummingVertexBuilder();
+    private BakedCuboid model;
+
+    @Setup
+    public void setup() {
+        model = RenderHoneyTank.bakeFluidModel(level, MIN_U, MAX_U, MIN_V, MAX_V);
+    }
+
+    @Benchmark
+    public double renderBaked() {
+        model.render(matrix, buffer, 0xFFFFC000, 0xF000F0, 0);
+        return buffer.sum;
+    }
+
+    @Benchmark
+    public double bakeEveryFrame() {
+        RenderHoneyTank.bakeFluidModel(level, MIN_U, MAX_U, MIN_V, MAX_V).render(matrix, buffer, 0xFFFFC000, 0xF000F0, 0);
+        return buffer.sum;
+    }
+
+    private static class SummingVertexBuilder implements IVertexBuilder {
+        private double sum;
+
+        @Override
+        public IVertexBuilder vertex(double x, double y, double z) {
+            sum += x + y + z;
+            return this;
+        }
+
+        @Override
+        public IVertexBuilder color(int red, int green, int blue, int alpha) {
+            sum += red + green + blue + alpha;
+            return this;
+        }
+
+        @Override
+        public IVertexBuilder texture(float u, float v) {
+            sum += u + v;
+            return this;
+        }
+
+        @Override
+        public IVertexBuilder overlay(int u, int v) {
+            sum += u + v;
+            return this;
+        }
+
+        @Override
+        public IVertexBuilder light(int u, int v) {
+            sum += u + v;
+            return this;
+        }
+
+        @Override
+        public IVertexBuilder normal(float x, float y, float z) {
+            sum += x + y + z;
+            return this;
+        }
+
+        @Override
+        public void endVertex() {
+            sum++;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.resourcefulbees.resourcefulbees.init;
+
+import com.resourcefulbees.resourcefulbees.api.beedata.CustomBeeData;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the bundled default bee jsons through {@link BeeSetup#parseDefinitions}, the same path {@link BeeSetup}
+ * uses for the config folder, including reading the files and the parallel parse.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeeSetupBenchmark {
+
+    private Path beeDir;
+
+    @Setup
+    public void setup() {
+        beeDir = Paths.get(System.getProperty("resourcefulbees.benchmark.beeDir", "src/main/resources/data/resourcefulbees/default_bees"));
+    }
+
+    @Benchmark
+    public List<BeeSetup.ParsedDefinition<CustomBeeData>> parseDefaultBees() throws IOException {
+        return BeeSetup.parseDefinitions(beeDir, CustomBeeData.class, new ArrayList<>());
+    }
+}
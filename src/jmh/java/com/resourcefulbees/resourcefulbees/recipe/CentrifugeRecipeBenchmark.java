@@ -0,0 +1,82 @@
+package com.resourcefulbees.resourcefulbees.recipe;
+
+import com.resourcefulbees.resourcefulbees.BenchmarkBootstrap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.registry.Registry;
+import net.minecraftforge.fluids.FluidStack;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up the recipe for a centrifuge input through {@link CentrifugeRecipeIndex} with
+ * testing every recipe in turn, which is what the recipe manager does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CentrifugeRecipeBenchmark {
+
+    @Param({"50", "500"})
+    public int recipeCount;
+
+    private List<CentrifugeRecipe> recipes;
+    private Map<Item, List<CentrifugeRecipe>> index;
+    private ItemStack[] inputs;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        List<Item> items = new ArrayList<>();
+        Registry.ITEM.forEach(item -> {
+            if (item != Items.AIR) items.add(item);
+        });
+        recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            Item item = items.get(i % items.size());
+            recipes.add(new CentrifugeRecipe(new ResourceLocation("resourcefulbees", "benchmark_" + i), Ingredient.fromItems(item),
+                    Collections.singletonList(Pair.of(new ItemStack(Items.HONEYCOMB), 1.0f)),
+                    Collections.singletonList(Pair.of(FluidStack.EMPTY, 0.0f)), 200, 200, false, false));
+        }
+        index = CentrifugeRecipeIndex.indexRecipes(recipes);
+        // a hit at each end of the recipe list and a miss on the nbt check
+        ItemStack tagged = new ItemStack(items.get(0));
+        tagged.getOrCreateTag().putBoolean("benchmark", true);
+        inputs = new ItemStack[]{new ItemStack(items.get(0)), new ItemStack(items.get((recipeCount - 1) % items.size())), tagged};
+    }
+
+    @Benchmark
+    public int indexed() {
+        int found = 0;
+        for (ItemStack input : inputs) {
+            if (CentrifugeRecipeIndex.findRecipe(index, input) != null) found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int found = 0;
+        for (ItemStack input : inputs) {
+            for (CentrifugeRecipe recipe : recipes) {
+                if (recipe.matches(input)) {
+                    found++;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,79 @@
+package com.resourcefulbees.resourcefulbees.tileentity;
+
+import com.resourcefulbees.resourcefulbees.BenchmarkBootstrap;
+import com.resourcefulbees.resourcefulbees.container.AutomationSensitiveItemStackHandler;
+import com.resourcefulbees.resourcefulbees.recipe.CentrifugeRecipe;
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.centrifuge.CentrifugeControllerTileEntity;
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.centrifuge.EliteCentrifugeControllerTileEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.tileentity.TileEntityType;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fluids.FluidStack;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worst case for the centrifuge output methods: every output slot but the last holds a full stack of something else,
+ * which used to make both {@link CentrifugeTileEntity#inventoryHasSpace} and
+ * {@link CentrifugeTileEntity#depositItemStack} scan the whole output area.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CentrifugeInventoryBenchmark {
+
+    @Param({"centrifuge", "multiblock", "elite"})
+    public String centrifuge;
+
+    private CentrifugeTileEntity tileEntity;
+    private AutomationSensitiveItemStackHandler handler;
+    private CentrifugeRecipe recipe;
+    private int lastSlot;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        TileEntityType<?> type = new TileEntityType<>(() -> null, Collections.emptySet(), null);
+        switch (centrifuge) {
+            case "multiblock":
+                tileEntity = new CentrifugeControllerTileEntity(type);
+                break;
+            case "elite":
+                tileEntity = new EliteCentrifugeControllerTileEntity(type);
+                break;
+            default:
+                tileEntity = new CentrifugeTileEntity(type);
+        }
+        handler = tileEntity.getItemStackHandler();
+        lastSlot = handler.getSlots() - 1;
+        for (int slot = tileEntity.getOutputSlots()[0]; slot < lastSlot; slot++) {
+            handler.setStackInSlot(slot, new ItemStack(Items.STICK, 64));
+        }
+        handler.setStackInSlot(CentrifugeTileEntity.BOTTLE_SLOT, new ItemStack(Items.GLASS_BOTTLE, 16));
+        recipe = new CentrifugeRecipe(new ResourceLocation("resourcefulbees", "benchmark"), Ingredient.fromItems(Items.HONEYCOMB),
+                Arrays.asList(Pair.of(new ItemStack(Items.HONEYCOMB, 2), 1.0f), Pair.of(new ItemStack(Items.SUGAR), 1.0f), Pair.of(new ItemStack(Items.HONEY_BOTTLE), 1.0f)),
+                Collections.singletonList(Pair.of(FluidStack.EMPTY, 0.0f)), 200, 200, false, false);
+    }
+
+    @Benchmark
+    public boolean inventoryHasSpace() {
+        return tileEntity.inventoryHasSpace(recipe);
+    }
+
+    @Benchmark
+    public ItemStack depositItemStack() {
+        tileEntity.depositItemStack(new ItemStack(Items.HONEYCOMB, 2));
+        ItemStack deposited = handler.getStackInSlot(lastSlot);
+        handler.setStackInSlot(lastSlot, ItemStack.EMPTY);
+        return deposited;
+    }
+}
@@ -0,0 +1,58 @@
+package com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary;
+
+import com.resourcefulbees.resourcefulbees.BenchmarkBootstrap;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tileentity.TileEntityType;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.StringTextComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of a populated apiary through {@link ApiaryTileEntity#saveToNBT} and {@link ApiaryTileEntity#loadFromNBT},
+ * which runs on every chunk save, chunk load and client sync.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiaryNBTBenchmark {
+
+    @Param({"1", "9"})
+    public int bees;
+
+    private ApiaryTileEntity apiary;
+    private CompoundNBT saved;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        apiary = new ApiaryTileEntity(new TileEntityType<>(() -> null, Collections.emptySet(), null));
+        for (int i = 0; i < bees; i++) {
+            CompoundNBT entityData = new CompoundNBT();
+            entityData.putString("id", "resourcefulbees:bee_" + i);
+            entityData.putFloat("Health", 10.0f);
+            entityData.putInt("Age", 0);
+            String beeType = "bee_" + i;
+            apiary.BEES.put(beeType, new ApiaryTileEntity.ApiaryBee(entityData, i * 20, 600, new BlockPos(i, 64, -i),
+                    beeType, "#ffc800", new StringTextComponent("Bee " + i)));
+        }
+        saved = apiary.saveToNBT(new CompoundNBT());
+    }
+
+    @Benchmark
+    public CompoundNBT save() {
+        return apiary.saveToNBT(new CompoundNBT());
+    }
+
+    @Benchmark
+    public CompoundNBT roundTrip() {
+        apiary.BEES.clear();
+        apiary.loadFromNBT(saved);
+        return apiary.saveToNBT(new CompoundNBT());
+    }
+}
@@ -0,0 +1,40 @@
+package com.resourcefulbees.resourcefulbees.utils;
+
+import com.resourcefulbees.resourcefulbees.BenchmarkBootstrap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowerPredicatesBenchmark {
+
+    private static final String FLOWER = "minecraft:poppy";
+
+    private BlockState[] states;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        // a typical 11x11x11 search box is mostly air and ground with the odd flower in it
+        states = new BlockState[1331];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = i % 97 == 0 ? Blocks.POPPY.getDefaultState() : i % 3 == 0 ? Blocks.GRASS_BLOCK.getDefaultState() : Blocks.AIR.getDefaultState();
+        }
+    }
+
+    @Benchmark
+    public int searchBox() {
+        int flowers = 0;
+        for (BlockState state : states) {
+            if (FlowerPredicates.isFlower(FLOWER, state)) flowers++;
+        }
+        return flowers;
+    }
+}
@@ -0,0 +1,34 @@
+package com.resourcefulbees.resourcefulbees.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomCollectionBenchmark {
+
+    @Param({"3", "16", "128"})
+    public int entries;
+
+    private RandomCollection<Integer> collection;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        collection = new RandomCollection<>(random);
+        for (int i = 0; i < entries; i++) {
+            collection.add(random.nextDouble() * 10 + 0.1, i);
+        }
+    }
+
+    @Benchmark
+    public Integer next() {
+        return collection.next();
+    }
+}
@@ -7,11 +7,16 @@ import com.resourcefulbees.resourcefulbees.config.ConfigLoader;
 import com.resourcefulbees.resourcefulbees.data.DataGen;
 import com.resourcefulbees.resourcefulbees.data.DataPackLoader;
 import com.resourcefulbees.resourcefulbees.data.RecipeBuilder;
+import com.resourcefulbees.resourcefulbees.entity.BeeIndex;
 import com.resourcefulbees.resourcefulbees.entity.EntityEventHandlers;
 import com.resourcefulbees.resourcefulbees.init.*;
 import com.resourcefulbees.resourcefulbees.network.NetPacketHandler;
 import com.resourcefulbees.resourcefulbees.registry.*;
+import com.resourcefulbees.resourcefulbees.tileentity.HiveScheduler;
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.MultiBlockTracker;
 import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
+import com.resourcefulbees.resourcefulbees.utils.FlowerPredicates;
+import com.resourcefulbees.resourcefulbees.utils.profiler.ProfilerCommand;
 import com.resourcefulbees.resourcefulbees.utils.validation.SecondPhaseValidator;
 import net.minecraft.entity.merchant.villager.VillagerTrades;
 import net.minecraft.item.DyeColor;
@@ -75,6 +80,17 @@ public class ResourcefulBees {
         MinecraftForge.EVENT_BUS.addListener(BeeSetup::onBiomeLoad);
         MinecraftForge.EVENT_BUS.addListener(DataPackLoader::serverStarting);
         MinecraftForge.EVENT_BUS.addListener(this::ServerLoaded);
+        MinecraftForge.EVENT_BUS.addListener(MultiBlockTracker::onNeighborNotify);
+        MinecraftForge.EVENT_BUS.addListener(MultiBlockTracker::onWorldUnload);
+        MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, BeeIndex::onEntityJoin);
+        MinecraftForge.EVENT_BUS.addListener(BeeIndex::onEntityLeave);
+        MinecraftForge.EVENT_BUS.addListener(BeeIndex::onLivingUpdate);
+        MinecraftForge.EVENT_BUS.addListener(BeeIndex::onWorldUnload);
+        MinecraftForge.EVENT_BUS.addListener(FlowerPredicates::onTagsUpdated);
+        MinecraftForge.EVENT_BUS.addListener(BeeRegistry::onTagsUpdated);
+        MinecraftForge.EVENT_BUS.addListener(ProfilerCommand::register);
+        MinecraftForge.EVENT_BUS.addListener(HiveScheduler::onWorldTick);
+        MinecraftForge.EVENT_BUS.addListener(HiveScheduler::onWorldUnload);
 
         MinecraftForge.EVENT_BUS.addListener(this::trade);
         //MinecraftForge.EVENT_BUS.addListener(EntityEventHandlers::entityDies);
@@ -1,8 +1,7 @@
 package com.resourcefulbees.resourcefulbees.api.beedata;
 
 import com.resourcefulbees.resourcefulbees.lib.ModelTypes;
-
-import java.awt.*;
+import com.resourcefulbees.resourcefulbees.utils.color.Color;
 
 public class ColorData extends AbstractBeeData {
     /**
@@ -70,6 +69,14 @@ public class ColorData extends AbstractBeeData {
 
     private final ModelTypes modelType;
 
+    private transient boolean colorsParsed;
+    private transient int primaryColorInt;
+    private transient int secondaryColorInt;
+    private transient int honeycombColorInt;
+    private transient float[] primaryColorFloats;
+    private transient float[] secondaryColorFloats;
+    private transient float[] glowColorFloats;
+
     private ColorData(String primaryColor, String secondaryColor, String honeycombColor, String primaryLayerTexture, String secondaryLayerTexture, String emissiveLayerTexture, String gelLayerTexture, boolean isBeeColored, boolean isRainbowBee, boolean isGlowing, String glowColor, boolean isEnchanted, int glowingPulse, ModelTypes modelType) {
         this.primaryColor = primaryColor;
         this.secondaryColor = secondaryColor;
@@ -85,6 +92,39 @@ public class ColorData extends AbstractBeeData {
         this.isEnchanted = isEnchanted;
         this.glowingPulse = glowingPulse;
         this.modelType = modelType;
+        parseColors();
+    }
+
+    /**
+     * Parses the color strings into the values returned by the int and float getters, so rendering never has to.
+     * Runs when the bee is validated on registration.
+     *
+     * @throws IllegalArgumentException if one of the colors is not valid.
+     */
+    public void parseColors() {
+        primaryColorInt = parseColor("Primary", hasPrimaryColor() ? primaryColor : "#ffffff");
+        secondaryColorInt = parseColor("Secondary", hasSecondaryColor() ? secondaryColor : "#303030");
+        honeycombColorInt = parseColor("Honeycomb", hasHoneycombColor() ? honeycombColor : "#ffffff");
+        int glowColorInt = parseColor("Glow", hasGlowColor() ? glowColor : "#ffffff");
+        primaryColorFloats = toFloats(primaryColorInt);
+        secondaryColorFloats = toFloats(secondaryColorInt);
+        glowColorFloats = toFloats(glowColorInt);
+        colorsParsed = true;
+    }
+
+    private static int parseColor(String type, String color) {
+        if (!Color.validate(color)) {
+            throw new IllegalArgumentException(String.format("%1$s Color: %2$s is not valid!!", type, color));
+        }
+        return Color.parseInt(color);
+    }
+
+    private static float[] toFloats(int color) {
+        return new float[]{(color >> 16 & 255) / 255f, (color >> 8 & 255) / 255f, (color & 255) / 255f, 1f};
+    }
+
+    private void ensureParsed() {
+        if (!colorsParsed) parseColors();
     }
 
     public String getPrimaryColor() { return primaryColor == null ? "#ffffff" :  primaryColor; }
@@ -121,27 +161,39 @@ public class ColorData extends AbstractBeeData {
 
     public int getGlowingPulse() { return glowingPulse; }
 
-    public int getPrimaryColorInt() { return com.resourcefulbees.resourcefulbees.utils.color.Color.parseInt(getPrimaryColor()); }
+    public int getPrimaryColorInt() {
+        ensureParsed();
+        return primaryColorInt;
+    }
 
-    public int getSecondaryColorInt() { return com.resourcefulbees.resourcefulbees.utils.color.Color.parseInt(getSecondaryColor()); }
+    public int getSecondaryColorInt() {
+        ensureParsed();
+        return secondaryColorInt;
+    }
 
-    public int getHoneycombColorInt() { return com.resourcefulbees.resourcefulbees.utils.color.Color.parseInt(getHoneycombColor()); }
+    public int getHoneycombColorInt() {
+        ensureParsed();
+        return honeycombColorInt;
+    }
 
     public ModelTypes getModelType() { return modelType != null ? modelType : ModelTypes.DEFAULT; }
 
-    public float[] getPrimaryColorFloats(){
-        Color tempColor = Color.decode(getPrimaryColor());
-        return tempColor.getComponents(null);
+    /**
+     * The float getters return RGBA components (0 to 1.0) shared by every caller, so the arrays must not be modified.
+     */
+    public float[] getPrimaryColorFloats() {
+        ensureParsed();
+        return primaryColorFloats;
     }
 
-    public float[] getSecondaryColorFloats(){
-        Color tempColor = Color.decode(getSecondaryColor());
-        return tempColor.getComponents(null);
+    public float[] getSecondaryColorFloats() {
+        ensureParsed();
+        return secondaryColorFloats;
     }
 
-    public float[] getGlowColorFloats(){
-        Color tempColor = Color.decode(getGlowColor());
-        return tempColor.getComponents(null);
+    public float[] getGlowColorFloats() {
+        ensureParsed();
+        return glowColorFloats;
     }
 
     public static class Builder {
@@ -96,6 +96,11 @@ public class CustomBeeData extends AbstractBeeData {
      */
     private final ColorData ColorData;
 
+    /**
+     * Shared by every bee without color data, so renderers calling {@link #getColorData()} don't parse a new default each time.
+     */
+    private static final ColorData DEFAULT_COLOR_DATA = com.resourcefulbees.resourcefulbees.api.beedata.ColorData.createDefault();
+
     /**
      * Data for the combat skills of the bee
      */
@@ -286,7 +291,7 @@ public class CustomBeeData extends AbstractBeeData {
     }
 
     public ColorData getColorData() {
-        return this.ColorData != null ? this.ColorData : com.resourcefulbees.resourcefulbees.api.beedata.ColorData.createDefault();
+        return this.ColorData != null ? this.ColorData : DEFAULT_COLOR_DATA;
     }
 
     public CombatData getCombatData() {
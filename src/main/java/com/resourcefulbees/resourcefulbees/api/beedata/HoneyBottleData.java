@@ -1,6 +1,7 @@
 package com.resourcefulbees.resourcefulbees.api.beedata;
 
 import com.resourcefulbees.resourcefulbees.registry.ItemGroupResourcefulBees;
+import com.resourcefulbees.resourcefulbees.utils.color.Color;
 import net.minecraft.block.Block;
 import net.minecraft.block.FlowingFluidBlock;
 import net.minecraft.fluid.FlowingFluid;
@@ -106,10 +107,29 @@ public class HoneyBottleData {
      */
     public transient boolean shouldResourcefulBeesDoForgeRegistration;
 
+    private transient boolean colorParsed;
+    private transient int honeyColorInt;
+
 
 
     public int getHoneyColorInt() {
-        return com.resourcefulbees.resourcefulbees.utils.color.Color.parseInt(honeyColor);
+        if (!colorParsed) parseColor();
+        return honeyColorInt;
+    }
+
+    /**
+     * Parses the honey color into the value returned by {@link #getHoneyColorInt}, so rendering never has to.
+     * Runs when the honey is validated on registration.
+     *
+     * @throws IllegalArgumentException if the color is not valid.
+     */
+    public void parseColor() {
+        String color = hasHoneyColor() ? honeyColor : "#FFFFFF";
+        if (!Color.validate(color)) {
+            throw new IllegalArgumentException(String.format("Honey Bottle Color: %1$s is not valid!!", color));
+        }
+        honeyColorInt = Color.parseInt(color);
+        colorParsed = true;
     }
 
     public void setName(String name) {
@@ -9,6 +9,8 @@ import com.resourcefulbees.resourcefulbees.utils.RandomCollection;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.EntityType;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.FluidState;
 import net.minecraft.item.Item;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tags.ITag;
@@ -16,6 +18,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import javax.annotation.Nullable;
 import java.util.*;
 
 public class MutationData extends AbstractBeeData {
@@ -60,6 +63,14 @@ public class MutationData extends AbstractBeeData {
     public transient Map<Block, IItemMutation> iBlockItemMutations = new HashMap<>();
     public transient Map<String, IItemMutation> iBlockItemTagMutations = new HashMap<>();
 
+    /**
+     * Block and fluid lookups with tag mutations expanded, rebuilt whenever tags are reloaded
+     */
+    private transient Map<Block, IBlockMutation> resolvedBlockMutations = new IdentityHashMap<>();
+    private transient Map<Block, IItemMutation> resolvedBlockItemMutations = new IdentityHashMap<>();
+    private transient Map<Fluid, IBlockMutation> resolvedFluidMutations = new IdentityHashMap<>();
+    private transient Map<Fluid, IItemMutation> resolvedFluidItemMutations = new IdentityHashMap<>();
+
 
     private MutationData(String mutationInput, String mutationOutput, int mutationCount, boolean hasMutation, MutationTypes mutationType) {
         this.mutationInput = mutationInput;
@@ -131,6 +142,56 @@ public class MutationData extends AbstractBeeData {
         }
         initMutationList();
         initBaseMutationData();
+        resolveTagMutations();
+    }
+
+    /**
+     * Expands the tag based mutations into block and fluid lookups. Mutations defined for a
+     * specific block take priority over ones it only gets through a tag.
+     */
+    public void resolveTagMutations() {
+        Map<Block, IBlockMutation> blockMutations = new IdentityHashMap<>();
+        Map<Block, IItemMutation> blockItemMutations = new IdentityHashMap<>();
+        Map<Fluid, IBlockMutation> fluidMutations = new IdentityHashMap<>();
+        Map<Fluid, IItemMutation> fluidItemMutations = new IdentityHashMap<>();
+
+        iBlockTagMutations.forEach((tag, mutation) -> {
+            ITag<Block> blockTag = BeeInfoUtils.getBlockTag(tag);
+            if (blockTag != null) blockTag.getAllElements().forEach(block -> blockMutations.putIfAbsent(block, mutation));
+            ITag<Fluid> fluidTag = BeeInfoUtils.getFluidTag(tag);
+            if (fluidTag != null) fluidTag.getAllElements().forEach(fluid -> fluidMutations.putIfAbsent(fluid, mutation));
+        });
+        iBlockItemTagMutations.forEach((tag, mutation) -> {
+            ITag<Block> blockTag = BeeInfoUtils.getBlockTag(tag);
+            if (blockTag != null) blockTag.getAllElements().forEach(block -> blockItemMutations.putIfAbsent(block, mutation));
+            ITag<Fluid> fluidTag = BeeInfoUtils.getFluidTag(tag);
+            if (fluidTag != null) fluidTag.getAllElements().forEach(fluid -> fluidItemMutations.putIfAbsent(fluid, mutation));
+        });
+
+        blockMutations.keySet().removeAll(iBlockItemMutations.keySet());
+        blockMutations.putAll(iBlockMutations);
+        blockItemMutations.keySet().removeAll(iBlockMutations.keySet());
+        blockItemMutations.putAll(iBlockItemMutations);
+
+        resolvedBlockMutations = blockMutations;
+        resolvedBlockItemMutations = blockItemMutations;
+        resolvedFluidMutations = fluidMutations;
+        resolvedFluidItemMutations = fluidItemMutations;
+    }
+
+    @Nullable
+    public IBlockMutation getBlockMutation(Block block, FluidState fluidState) {
+        if (fluidState.isEmpty()) return resolvedBlockMutations.get(block);
+        IBlockMutation mutation = iBlockMutations.get(block);
+        if (mutation != null || iBlockItemMutations.containsKey(block)) return mutation;
+        return resolvedFluidMutations.get(fluidState.getFluid());
+    }
+
+    @Nullable
+    public IItemMutation getItemMutation(Block block, FluidState fluidState) {
+        if (fluidState.isEmpty()) return resolvedBlockItemMutations.get(block);
+        IItemMutation mutation = iBlockItemMutations.get(block);
+        return mutation != null ? mutation : resolvedFluidItemMutations.get(fluidState.getFluid());
     }
 
     private void initBaseMutationData() {
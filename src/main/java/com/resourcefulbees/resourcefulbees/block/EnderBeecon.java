@@ -100,6 +100,15 @@ public class EnderBeecon extends HoneyTank {
         return ActionResultType.SUCCESS;
     }
 
+    @Override
+    public void neighborChanged(@Nonnull BlockState state, World world, @Nonnull BlockPos pos, @Nonnull Block changedBlock, @Nonnull BlockPos changedBlockPos, boolean bool) {
+        super.neighborChanged(state, world, pos, changedBlock, changedBlockPos, bool);
+        TileEntity tileEntity = world.getTileEntity(pos);
+        if (tileEntity instanceof EnderBeeconTileEntity) {
+            ((EnderBeeconTileEntity) tileEntity).onNeighborChanged(changedBlockPos);
+        }
+    }
+
     @Nullable
     @Override
     public TileEntity createTileEntity(BlockState state, IBlockReader world) {
@@ -85,6 +85,15 @@ public class HoneyGenerator extends Block {
         super.onReplaced(state1, world, pos, state, isMoving);
     }
 
+    @Override
+    public void neighborChanged(@Nonnull BlockState state, World world, @Nonnull BlockPos pos, @Nonnull Block changedBlock, @Nonnull BlockPos changedBlockPos, boolean bool) {
+        super.neighborChanged(state, world, pos, changedBlock, changedBlockPos, bool);
+        TileEntity tileEntity = world.getTileEntity(pos);
+        if (tileEntity instanceof HoneyGeneratorTileEntity) {
+            ((HoneyGeneratorTileEntity) tileEntity).onNeighborChanged(changedBlockPos);
+        }
+    }
+
     @Override
     public boolean hasTileEntity(BlockState state) {
         return true;
@@ -1,6 +1,7 @@
 package com.resourcefulbees.resourcefulbees.block;
 
 import com.resourcefulbees.resourcefulbees.config.Config;
+import com.resourcefulbees.resourcefulbees.entity.BeeIndex;
 import com.resourcefulbees.resourcefulbees.lib.NBTConstants;
 import com.resourcefulbees.resourcefulbees.registry.ModItems;
 import com.resourcefulbees.resourcefulbees.tileentity.TieredBeehiveTileEntity;
@@ -141,7 +142,7 @@ public class TieredBeehiveBlock extends BeehiveBlock {
 
     public void angerNearbyBees(World world, BlockPos pos) {
         AxisAlignedBB aabb = new AxisAlignedBB(pos).grow(8.0D, 6.0D, 8.0D);
-        List<BeeEntity> beeEntityList = world.getEntitiesWithinAABB(BeeEntity.class, aabb);
+        List<BeeEntity> beeEntityList = BeeIndex.getBees(world, aabb);
         if (!beeEntityList.isEmpty()) {
             List<PlayerEntity> playerEntityList = world.getEntitiesWithinAABB(PlayerEntity.class, aabb);
 
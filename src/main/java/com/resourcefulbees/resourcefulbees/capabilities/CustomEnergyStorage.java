@@ -16,6 +16,20 @@ public class CustomEnergyStorage extends EnergyStorage implements INBTSerializab
 
     }
 
+    @Override
+    public int receiveEnergy(int maxReceive, boolean simulate) {
+        int received = super.receiveEnergy(maxReceive, simulate);
+        if (!simulate && received > 0) onEnergyChanged();
+        return received;
+    }
+
+    @Override
+    public int extractEnergy(int maxExtract, boolean simulate) {
+        int extracted = super.extractEnergy(maxExtract, simulate);
+        if (!simulate && extracted > 0) onEnergyChanged();
+        return extracted;
+    }
+
     public void setEnergy(int energy) {
         this.energy = energy;
         onEnergyChanged();
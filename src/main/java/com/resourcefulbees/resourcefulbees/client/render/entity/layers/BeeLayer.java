@@ -32,7 +32,7 @@ public class BeeLayer extends LayerRenderer<CustomBeeEntity, CustomBeeModel<Cust
     private final CustomBeeModel<CustomBeeEntity> additionModel;
     private final ResourceLocation layerTexture;
     private final ResourceLocation angerLayerTexture;
-    private float[] color;
+    private final float[] color;
     private final boolean isRainbowBee;
 
     public BeeLayer(IEntityRenderer<CustomBeeEntity, CustomBeeModel<CustomBeeEntity>> renderer, CustomBeeRenderer.LayerType layerType, ModelTypes addition, ColorData colorData) {
@@ -47,19 +47,19 @@ public class BeeLayer extends LayerRenderer<CustomBeeEntity, CustomBeeModel<Cust
                 this.isEmissive = false;
                 this.layerTexture = new ResourceLocation(ResourcefulBees.MOD_ID, BeeConstants.ENTITY_TEXTURES_DIR + colorData.getPrimaryLayerTexture() + ".png");
                 this.angerLayerTexture = new ResourceLocation(ResourcefulBees.MOD_ID, BeeConstants.ENTITY_TEXTURES_DIR + colorData.getPrimaryLayerTexture() + "_angry.png");
-                this.color = isRainbowBee ? RainbowColor.getColorFloats() : colorData.getPrimaryColorFloats();
+                this.color = isRainbowBee ? new float[3] : colorData.getPrimaryColorFloats();
                 break;
             case SECONDARY:
                 this.isEmissive = false;
                 this.layerTexture = new ResourceLocation(ResourcefulBees.MOD_ID, BeeConstants.ENTITY_TEXTURES_DIR + colorData.getSecondaryLayerTexture() + ".png");
                 this.angerLayerTexture = new ResourceLocation(ResourcefulBees.MOD_ID, BeeConstants.ENTITY_TEXTURES_DIR + colorData.getSecondaryLayerTexture() + "_angry.png");
-                this.color = isRainbowBee ? RainbowColor.getColorFloats() : colorData.getSecondaryColorFloats();
+                this.color = isRainbowBee ? new float[3] : colorData.getSecondaryColorFloats();
                 break;
             case EMISSIVE:
                 this.isEmissive = true;
                 this.layerTexture = new ResourceLocation(ResourcefulBees.MOD_ID, BeeConstants.ENTITY_TEXTURES_DIR + colorData.getEmissiveLayerTexture() + ".png");
                 this.angerLayerTexture = new ResourceLocation(ResourcefulBees.MOD_ID, BeeConstants.ENTITY_TEXTURES_DIR + colorData.getEmissiveLayerTexture() + "_angry.png");
-                this.color = isRainbowBee ? RainbowColor.getColorFloats() : colorData.getGlowColorFloats();
+                this.color = isRainbowBee ? new float[3] : colorData.getGlowColorFloats();
                 break;
             default:
                 throw new IllegalStateException("You dun screwed up, did you add a new layer?");
@@ -68,7 +68,7 @@ public class BeeLayer extends LayerRenderer<CustomBeeEntity, CustomBeeModel<Cust
 
     @Override
     public void render(@Nonnull MatrixStack matrixStackIn, @Nonnull IRenderTypeBuffer bufferIn, int packedLightIn, @Nonnull CustomBeeEntity customBeeEntity, float limbSwing, float limbSwingAmount, float partialTicks, float ageInTicks, float netHeadYaw, float headPitch) {
-        if (isRainbowBee) color = RainbowColor.getColorFloats();
+        if (isRainbowBee) RainbowColor.getColorFloats(color);
         ResourceLocation texture = customBeeEntity.hasAngerTime() && angerLayerTexture != null ? angerLayerTexture : layerTexture;
 
         if (additionModel != null) {
@@ -26,6 +26,7 @@ public class EmissiveBeeLayer extends LayerRenderer<CustomBeeEntity, CustomBeeMo
     private final ResourceLocation emissiveLayerTexture;
     private final ResourceLocation angryEmissiveLayerTexture;
     ColorData colorData;
+    private final float[] rainbowColor = new float[3];
 
     public EmissiveBeeLayer(IEntityRenderer<CustomBeeEntity, CustomBeeModel<CustomBeeEntity>> rendererIn, ColorData colorData) {
         super(rendererIn);
@@ -38,7 +39,7 @@ public class EmissiveBeeLayer extends LayerRenderer<CustomBeeEntity, CustomBeeMo
         IVertexBuilder ivertexbuilder = bufferIn.getBuffer(RenderType.getEyes(customBeeEntity.hasAngerTime() && angryEmissiveLayerTexture != null ? angryEmissiveLayerTexture : emissiveLayerTexture));
 
         if (colorData.isRainbowBee() && colorData.isGlowing()) {
-            float[] glowColor = RainbowColor.getColorFloats();
+            float[] glowColor = RainbowColor.getColorFloats(rainbowColor);
             if (colorData.getGlowingPulse() == 0 || customBeeEntity.ticksExisted / 5 % colorData.getGlowingPulse() == 0) {
                 this.getEntityModel().render(matrixStackIn, ivertexbuilder, 15728640, OverlayTexture.DEFAULT_UV, glowColor[0], glowColor[1], glowColor[2], 1.0F);
             }
@@ -21,18 +21,18 @@ import javax.annotation.Nonnull;
 public class PrimaryColorLayer extends LayerRenderer<CustomBeeEntity, CustomBeeModel<CustomBeeEntity>> {
 
     private final ResourceLocation primaryLayerTexture;
-    private float[] primaryColor;
+    private final float[] primaryColor;
     private final boolean isRainbowBee;
 
     public PrimaryColorLayer(IEntityRenderer<CustomBeeEntity, CustomBeeModel<CustomBeeEntity>> rendererIn, ColorData colorData) {
         super(rendererIn);
         isRainbowBee = colorData.isRainbowBee() && colorData.isGlowing();
         primaryLayerTexture = new ResourceLocation(ResourcefulBees.MOD_ID, BeeConstants.ENTITY_TEXTURES_DIR + colorData.getPrimaryLayerTexture() + ".png");
-        primaryColor = isRainbowBee ? RainbowColor.getColorFloats() : colorData.getPrimaryColorFloats();
+        primaryColor = isRainbowBee ? new float[3] : colorData.getPrimaryColorFloats();
     }
 
     public void render(@Nonnull MatrixStack matrixStackIn, @Nonnull IRenderTypeBuffer bufferIn, int packedLightIn, @Nonnull CustomBeeEntity customBeeEntity, float limbSwing, float limbSwingAmount, float partialTicks, float ageInTicks, float netHeadYaw, float headPitch) {
-        if (isRainbowBee) primaryColor = RainbowColor.getColorFloats();
+        if (isRainbowBee) RainbowColor.getColorFloats(primaryColor);
         renderModel(this.getEntityModel(), primaryLayerTexture, matrixStackIn, bufferIn, packedLightIn, customBeeEntity, primaryColor[0], primaryColor[1], primaryColor[2]);
     }
 }
@@ -3,19 +3,30 @@ package com.resourcefulbees.resourcefulbees.client.render.tileentity;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
 import com.resourcefulbees.resourcefulbees.tileentity.HoneyTankTileEntity;
+import com.resourcefulbees.resourcefulbees.utils.BakedCuboid;
 import com.resourcefulbees.resourcefulbees.utils.CubeModel;
-import com.resourcefulbees.resourcefulbees.utils.RenderCuboid;
 import net.minecraft.client.renderer.Atlases;
 import net.minecraft.client.renderer.IRenderTypeBuffer;
-import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.tileentity.TileEntityRenderer;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
-import net.minecraft.util.ResourceLocation;
-import net.minecraft.util.math.vector.Vector3f;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.fluids.FluidStack;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class RenderHoneyTank extends TileEntityRenderer<HoneyTankTileEntity> {
 
+    private static final int MAX_LEVEL = 100;
+
+    /**
+     * Fluid models by fluid and fill level, baked the first time they're drawn. Only touched from the render thread.
+     */
+    private static final Map<Fluid, BakedCuboid[]> FLUID_MODELS = new HashMap<>();
+
     public RenderHoneyTank(TileEntityRendererDispatcher renderer) {
         super(renderer);
     }
@@ -25,15 +36,32 @@ public class RenderHoneyTank extends TileEntityRenderer<HoneyTankTileEntity> {
         if (tile.getWorld() == null) return;
         FluidStack stack = tile.fluidTank.getFluid();
         if (stack != null && !stack.isEmpty()) {
-            int level = tile.getLevel();
             int color = stack.getFluid().getAttributes().getColor();
-            ResourceLocation stillTexture = stack.getFluid().getAttributes().getStillTexture();
             IVertexBuilder builder = renderer.getBuffer(Atlases.getEntityTranslucentCull());
-            Vector3f start = new Vector3f(0.1875f, 0.0625f, 0.1875f);
-            Vector3f end = new Vector3f(0.8125f, 0.0625f + ((float) level / 100.0F) * 0.875f, 0.8125f);
-            CubeModel model = new CubeModel(start, end);
-            model.setTextures(stillTexture);
-            RenderCuboid.INSTANCE.renderCube(model, matrix, builder, color, light, overlayLight);
+            getFluidModel(stack.getFluid(), tile.getLevel()).render(matrix, builder, color, light, overlayLight);
+        }
+    }
+
+    private static BakedCuboid getFluidModel(Fluid fluid, int level) {
+        BakedCuboid[] models = FLUID_MODELS.computeIfAbsent(fluid, f -> new BakedCuboid[MAX_LEVEL + 1]);
+        level = MathHelper.clamp(level, 0, MAX_LEVEL);
+        BakedCuboid model = models[level];
+        if (model == null) {
+            TextureAtlasSprite sprite = CubeModel.getSprite(fluid.getAttributes().getStillTexture());
+            model = bakeFluidModel(level, sprite.getMinU(), sprite.getMaxU(), sprite.getMinV(), sprite.getMaxV());
+            models[level] = model;
         }
+        return model;
+    }
+
+    public static BakedCuboid bakeFluidModel(int level, float minU, float maxU, float minV, float maxV) {
+        return BakedCuboid.bake(0.1875f, 0.0625f, 0.1875f, 0.8125f, 0.0625f + ((float) level / 100.0F) * 0.875f, 0.8125f, minU, maxU, minV, maxV);
+    }
+
+    /**
+     * Sprites move around whenever the atlas is restitched, so models baked against the old ones have to go.
+     */
+    public static void onTextureStitch(TextureStitchEvent.Post event) {
+        FLUID_MODELS.clear();
     }
 }
@@ -45,6 +45,7 @@ public class Config {
     public static ForgeConfigSpec.IntValue RF_TICK_CENTRIFUGE;
     public static ForgeConfigSpec.DoubleValue PLAYER_EXHAUSTION;
     public static ForgeConfigSpec.BooleanValue MULTIBLOCK_RECIPES_ONLY;
+    public static ForgeConfigSpec.IntValue MULTIBLOCK_CENTRIFUGE_BATCH_SIZE;
 
     public static ForgeConfigSpec.IntValue HONEY_FILL_AMOUNT;
     public static ForgeConfigSpec.IntValue HONEY_DRAIN_AMOUNT;
@@ -55,6 +56,9 @@ public class Config {
 
     public static ForgeConfigSpec.IntValue APIARY_MAX_BEES;
     public static ForgeConfigSpec.IntValue APIARY_MAX_BREED_TIME;
+    public static ForgeConfigSpec.BooleanValue APIARY_VIRTUAL_BEES;
+    public static ForgeConfigSpec.DoubleValue APIARY_AMBIENT_BEE_CHANCE;
+    public static ForgeConfigSpec.IntValue APIARY_MAX_CATCH_UP_TICKS;
 
     public static ForgeConfigSpec.IntValue SMOKER_DURABILITY;
 
@@ -130,6 +134,8 @@ public class Config {
                     .defineInRange("mechanicalCentrifugePlayerExhaustion", 0.1, 0.0, 1);
             MULTIBLOCK_RECIPES_ONLY = COMMON_BUILDER.comment("\n Makes it so multiblock centrifuge can only do multiblock recipes. [true/false]")
                     .define("multiblockRecipesOnly", false);
+            MULTIBLOCK_CENTRIFUGE_BATCH_SIZE = COMMON_BUILDER.comment("\nMaximum number of crafts of the same recipe a multiblock centrifuge runs per input slot in one cycle.", "Time and energy scale with the number of crafts, so this doesn't change throughput, it only saves work on busy servers.")
+                    .defineInRange("multiblockCentrifugeBatchSize", 1, 1, 64);
             COMMON_BUILDER.pop();
 
             COMMON_BUILDER.push("Honey Generator Options");
@@ -196,6 +202,12 @@ public class Config {
                     .defineInRange("apiaryMaxBees", 9, 1, 16);
             APIARY_MAX_BREED_TIME = COMMON_BUILDER.comment("\nMaximum breed time before upgrades are applied.")
                     .defineInRange("apiaryMaxBreedTime", 2400, 1200, 4800);
+            APIARY_VIRTUAL_BEES = COMMON_BUILDER.comment("\nShould apiary bees that already know where their flower is stay inside and have their trips simulated instead of flying out? [true/false] \nHoneycomb output stays the same, but pollination effects like mutations only happen when a bee actually flies out.")
+                    .define("apiaryVirtualBees", false);
+            APIARY_AMBIENT_BEE_CHANCE = COMMON_BUILDER.comment("\nWith virtual apiary bees enabled, the chance that a bee flies out anyway so the apiary still looks busy. \nSet to 0 to keep every bee inside.")
+                    .defineInRange("apiaryAmbientBeeChance", 0.1, 0.0, 1.0);
+            APIARY_MAX_CATCH_UP_TICKS = COMMON_BUILDER.comment("\nMaximum number of ticks an apiary catches up on when its chunk is loaded again, producing the honeycomb its bees would have made in the meantime. \nSet to 0 to disable catching up.")
+                    .defineInRange("apiaryMaxCatchUpTicks", 72000, 0, Integer.MAX_VALUE);
             COMMON_BUILDER.pop();
 
             COMMON_BUILDER.push("Spawning Options");
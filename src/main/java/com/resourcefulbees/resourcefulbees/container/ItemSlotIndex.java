@@ -0,0 +1,245 @@
+package com.resourcefulbees.resourcefulbees.container;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.items.ItemStackHandler;
+
+import javax.annotation.Nullable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static net.minecraft.inventory.container.Container.areItemsAndTagsEqual;
+
+/**
+ * Index over a range of output slots that keeps track of which slots are empty and which hold a stack that still has
+ * room, grouped by item and NBT, so depositing an item or checking for room doesn't have to scan every slot.
+ * <p>
+ * The index is built from the handler the first time it's queried. After that the owning handler calls
+ * {@link #update} from {@code onContentsChanged} and {@link #rebuild} from {@code onLoad}. Output slots in containers
+ * report stacks they shrink in place through {@link OutputSlot#onSlotChanged}. As a safeguard against anything else
+ * changing a stack behind the handler's back, every slot handed out by the index is still checked against the actual
+ * stack before it's used and corrected if it turns out to be stale.
+ */
+public class ItemSlotIndex {
+
+    private final ItemStackHandler handler;
+    private final int firstSlot;
+    private final int endSlot;
+    private final BitSet freeSlots = new BitSet();
+    private final Map<ItemKey, IntSortedSet> partialSlots = new HashMap<>();
+    private final ItemKey[] slotKeys;
+    private final IntArrayList deferredUpdates = new IntArrayList();
+    private boolean built;
+    private boolean deferUpdates;
+
+    /**
+     * @param firstSlot first indexed slot.
+     * @param endSlot   slot after the last indexed slot.
+     */
+    public ItemSlotIndex(ItemStackHandler handler, int firstSlot, int endSlot) {
+        this.handler = handler;
+        this.firstSlot = firstSlot;
+        this.endSlot = endSlot;
+        this.slotKeys = new ItemKey[endSlot - firstSlot];
+    }
+
+    public void rebuild() {
+        built = true;
+        freeSlots.clear();
+        partialSlots.clear();
+        for (int slot = firstSlot; slot < endSlot; slot++) {
+            slotKeys[slot - firstSlot] = null;
+            update(slot);
+        }
+    }
+
+    public void update(int slot) {
+        if (!built || slot < firstSlot || slot >= endSlot) return;
+        if (deferUpdates) {
+            deferredUpdates.add(slot);
+            return;
+        }
+        ItemKey oldKey = slotKeys[slot - firstSlot];
+        if (oldKey != null) {
+            IntSortedSet slots = partialSlots.get(oldKey);
+            if (slots != null) {
+                slots.remove(slot);
+                if (slots.isEmpty()) partialSlots.remove(oldKey);
+            }
+            slotKeys[slot - firstSlot] = null;
+        }
+
+        ItemStack stack = handler.getStackInSlot(slot);
+        freeSlots.set(slot, stack.isEmpty());
+        if (!stack.isEmpty() && stack.getCount() < getStackLimit(slot, stack)) {
+            ItemKey key = ItemKey.copyOf(stack);
+            partialSlots.computeIfAbsent(key, k -> new IntRBTreeSet()).add(slot);
+            slotKeys[slot - firstSlot] = key;
+        }
+    }
+
+    /**
+     * Returns whether one of the indexed slots before {@code limit} is empty.
+     */
+    public boolean hasFreeSlot(int limit) {
+        return nextFreeSlot(firstSlot, limit) != -1;
+    }
+
+    /**
+     * Returns the number of empty slots among the indexed slots before {@code limit}.
+     */
+    public int countFreeSlots(int limit) {
+        int count = 0;
+        for (int slot = nextFreeSlot(firstSlot, limit); slot != -1; slot = nextFreeSlot(slot + 1, limit)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns how many more of the given item fit on top of the matching stacks in the indexed slots before
+     * {@code limit}, not counting empty slots.
+     */
+    public int getPartialRoom(ItemStack stack, int limit) {
+        ensureBuilt();
+        IntSortedSet slots = partialSlots.get(ItemKey.of(stack));
+        if (slots == null) return 0;
+        int room = 0;
+        deferUpdates = true;
+        try {
+            IntIterator iterator = slots.iterator();
+            while (iterator.hasNext()) {
+                int slot = iterator.nextInt();
+                if (slot >= limit) break;
+                ItemStack slotStack = handler.getStackInSlot(slot);
+                if (areItemsAndTagsEqual(stack, slotStack)) {
+                    room += Math.max(getStackLimit(slot, slotStack) - slotStack.getCount(), 0);
+                } else {
+                    update(slot);
+                }
+            }
+        } finally {
+            applyDeferredUpdates();
+        }
+        return room;
+    }
+
+    /**
+     * Moves as much of the stack as fits into the indexed slots before {@code limit}, topping up matching stacks
+     * first and then filling empty slots in order. The given stack is shrunk by the amount deposited.
+     *
+     * @return Returns true if the whole stack was deposited.
+     */
+    public boolean deposit(ItemStack stack, int limit) {
+        if (stack.isEmpty()) return true;
+        ensureBuilt();
+
+        IntSortedSet slots = partialSlots.get(ItemKey.of(stack));
+        if (slots != null) {
+            deferUpdates = true;
+            try {
+                IntIterator iterator = slots.iterator();
+                while (iterator.hasNext() && !stack.isEmpty()) {
+                    int slot = iterator.nextInt();
+                    if (slot >= limit) break;
+                    ItemStack slotStack = handler.getStackInSlot(slot);
+                    if (areItemsAndTagsEqual(stack, slotStack)) {
+                        int moved = Math.min(stack.getCount(), getStackLimit(slot, slotStack) - slotStack.getCount());
+                        if (moved > 0) {
+                            ItemStack newStack = slotStack.copy();
+                            newStack.grow(moved);
+                            stack.shrink(moved);
+                            handler.setStackInSlot(slot, newStack);
+                            continue;
+                        }
+                    }
+                    update(slot);
+                }
+            } finally {
+                applyDeferredUpdates();
+            }
+        }
+
+        int slot = nextFreeSlot(firstSlot, limit);
+        while (!stack.isEmpty() && slot != -1) {
+            if (handler.getStackInSlot(slot).isEmpty()) {
+                handler.setStackInSlot(slot, stack.split(getStackLimit(slot, stack)));
+            } else {
+                update(slot);
+            }
+            slot = nextFreeSlot(slot + 1, limit);
+        }
+        return stack.isEmpty();
+    }
+
+    /**
+     * Applies the updates held back while iterating over a set of partial slots, which can't be changed mid-iteration.
+     */
+    private void applyDeferredUpdates() {
+        deferUpdates = false;
+        for (int i = 0; i < deferredUpdates.size(); i++) {
+            update(deferredUpdates.getInt(i));
+        }
+        deferredUpdates.clear();
+    }
+
+    private void ensureBuilt() {
+        if (!built) rebuild();
+    }
+
+    private int nextFreeSlot(int from, int limit) {
+        ensureBuilt();
+        int slot = freeSlots.nextSetBit(Math.max(from, firstSlot));
+        return slot != -1 && slot < Math.min(limit, endSlot) ? slot : -1;
+    }
+
+    private int getStackLimit(int slot, ItemStack stack) {
+        return Math.min(handler.getSlotLimit(slot), stack.getMaxStackSize());
+    }
+
+    private static final class ItemKey {
+        private final Item item;
+        private final CompoundNBT tag;
+        private final int hash;
+
+        private ItemKey(Item item, @Nullable CompoundNBT tag) {
+            this.item = item;
+            this.tag = tag;
+            this.hash = 31 * item.hashCode() + Objects.hashCode(tag);
+        }
+
+        /**
+         * Key for looking up a stack. Shares the stack's tag, so it must not be stored.
+         */
+        private static ItemKey of(ItemStack stack) {
+            return new ItemKey(stack.getItem(), stack.getTag());
+        }
+
+        /**
+         * Key for storing in the index, with its own copy of the stack's tag.
+         */
+        private static ItemKey copyOf(ItemStack stack) {
+            return new ItemKey(stack.getItem(), stack.getTag() != null ? stack.getTag().copy() : null);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ItemKey)) return false;
+            ItemKey other = (ItemKey) o;
+            return item == other.item && Objects.equals(tag, other.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.resourcefulbees.resourcefulbees.container;
 
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.SlotItemHandler;
 
 import javax.annotation.Nonnull;
@@ -15,4 +16,16 @@ public class OutputSlot extends SlotItemHandler {
     public boolean isItemValid(@Nonnull ItemStack stack) {
         return false;
     }
+
+    /**
+     * Containers shrink the stack in place when it's shift-clicked out, which the handler never sees. Setting the
+     * stack again lets the handler, and any {@link ItemSlotIndex} behind it, know the slot changed.
+     */
+    @Override
+    public void onSlotChanged() {
+        super.onSlotChanged();
+        if (getItemHandler() instanceof IItemHandlerModifiable) {
+            ((IItemHandlerModifiable) getItemHandler()).setStackInSlot(getSlotIndex(), getStack());
+        }
+    }
 }
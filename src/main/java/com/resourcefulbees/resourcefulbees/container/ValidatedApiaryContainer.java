@@ -7,10 +7,10 @@ import com.resourcefulbees.resourcefulbees.registry.ModContainers;
 import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary.ApiaryTileEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.inventory.container.Slot;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.IntReferenceHolder;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -54,9 +54,8 @@ public class ValidatedApiaryContainer extends Container {
                 }
             });
             this.addSlot(new OutputSlot(apiaryTileEntity.h, ApiaryTileEntity.EXPORT, 182, 37));
-            if (!world.isRemote) {
-                this.apiaryTileEntity.numPlayersUsing++;
-                ApiaryTileEntity.syncApiaryToPlayersUsing(world, pos, this.apiaryTileEntity.saveToNBT(new CompoundNBT()));
+            if (!world.isRemote && player instanceof ServerPlayerEntity) {
+                this.apiaryTileEntity.addPlayerUsing((ServerPlayerEntity) player);
             }
         }
 
@@ -79,8 +78,8 @@ public class ValidatedApiaryContainer extends Container {
     @Override
     public void onContainerClosed(@Nonnull PlayerEntity playerIn) {
         World world = this.apiaryTileEntity.getWorld();
-        if (world != null && !world.isRemote)
-            this.apiaryTileEntity.numPlayersUsing--;
+        if (world != null && !world.isRemote && playerIn instanceof ServerPlayerEntity)
+            this.apiaryTileEntity.removePlayerUsing((ServerPlayerEntity) playerIn);
         super.onContainerClosed(playerIn);
     }
 
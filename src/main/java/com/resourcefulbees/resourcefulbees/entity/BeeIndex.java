@@ -0,0 +1,205 @@
+package com.resourcefulbees.resourcefulbees.entity;
+
+import com.resourcefulbees.resourcefulbees.entity.passive.CustomBeeEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.passive.BeeEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
+import net.minecraftforge.event.entity.living.LivingEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Server-side, per-world index of loaded bees and hive positions, bucketed by chunk section.
+ * Range queries only visit the sections overlapping the range, so their cost depends on how many
+ * bees are nearby rather than on how many entities are in the area.
+ */
+public class BeeIndex {
+
+    private static final Map<IWorld, WorldIndex> INDICES = new WeakHashMap<>();
+
+    private BeeIndex() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static void onEntityJoin(EntityJoinWorldEvent event) {
+        if (event.getWorld().isRemote) return;
+        if (event.getEntity() instanceof BeeEntity) {
+            getOrCreate(event.getWorld()).moveBee((BeeEntity) event.getEntity());
+        }
+    }
+
+    public static void onEntityLeave(EntityLeaveWorldEvent event) {
+        if (event.getWorld().isRemote) return;
+        if (event.getEntity() instanceof BeeEntity) {
+            WorldIndex index = INDICES.get(event.getWorld());
+            if (index != null) index.removeBee((BeeEntity) event.getEntity());
+        }
+    }
+
+    public static void onLivingUpdate(LivingEvent.LivingUpdateEvent event) {
+        if (event.getEntityLiving().world.isRemote) return;
+        if (event.getEntityLiving() instanceof BeeEntity) {
+            WorldIndex index = INDICES.get(event.getEntityLiving().world);
+            if (index != null) index.moveBee((BeeEntity) event.getEntityLiving());
+        }
+    }
+
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        INDICES.remove(event.getWorld());
+    }
+
+    public static void addHive(World world, BlockPos pos) {
+        Long2ObjectMap<Set<BlockPos>> hives = getOrCreate(world).hives;
+        long key = sectionKey(pos);
+        Set<BlockPos> section = hives.get(key);
+        if (section == null) {
+            section = new HashSet<>();
+            hives.put(key, section);
+        }
+        section.add(pos.toImmutable());
+    }
+
+    public static void removeHive(World world, BlockPos pos) {
+        WorldIndex index = INDICES.get(world);
+        if (index == null) return;
+        long key = sectionKey(pos);
+        Set<BlockPos> hives = index.hives.get(key);
+        if (hives != null) {
+            hives.remove(pos);
+            if (hives.isEmpty()) index.hives.remove(key);
+        }
+    }
+
+    public static boolean isHiveInRange(World world, BlockPos pos, int range) {
+        WorldIndex index = INDICES.get(world);
+        if (index == null || index.hives.isEmpty()) return false;
+        for (int x = (pos.getX() - range) >> 4; x <= (pos.getX() + range) >> 4; x++) {
+            for (int y = (pos.getY() - range) >> 4; y <= (pos.getY() + range) >> 4; y++) {
+                for (int z = (pos.getZ() - range) >> 4; z <= (pos.getZ() + range) >> 4; z++) {
+                    Set<BlockPos> hives = index.hives.get(SectionPos.asLong(x, y, z));
+                    if (hives == null) continue;
+                    for (BlockPos hive : hives) {
+                        if (Math.abs(hive.getX() - pos.getX()) <= range && Math.abs(hive.getY() - pos.getY()) <= range
+                                && Math.abs(hive.getZ() - pos.getZ()) <= range) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns all bees, vanilla or custom, whose bounding box intersects the given box.
+     */
+    public static List<BeeEntity> getBees(World world, AxisAlignedBB box) {
+        List<BeeEntity> bees = new ArrayList<>();
+        forEachBee(world, box, bees::add);
+        return bees;
+    }
+
+    /**
+     * Returns the custom bees of the given type whose bounding box intersects the given box.
+     */
+    public static List<CustomBeeEntity> getBees(World world, AxisAlignedBB box, String beeType) {
+        List<CustomBeeEntity> bees = new ArrayList<>();
+        forEachBee(world, box, bee -> {
+            if (bee instanceof CustomBeeEntity && beeType.equals(((CustomBeeEntity) bee).getBeeType())) {
+                bees.add((CustomBeeEntity) bee);
+            }
+        });
+        return bees;
+    }
+
+    private static void forEachBee(World world, AxisAlignedBB box, Consumer<BeeEntity> consumer) {
+        WorldIndex index = INDICES.get(world);
+        if (index == null || index.bees.isEmpty()) return;
+        // bees are bucketed by position, so pad the box to catch bees whose bounding box pokes into it
+        int minX = MathHelper.floor(box.minX - 2.0D) >> 4;
+        int maxX = MathHelper.floor(box.maxX + 2.0D) >> 4;
+        int minY = Math.max(MathHelper.floor(box.minY - 2.0D) >> 4, index.minSectionY);
+        int maxY = Math.min(MathHelper.floor(box.maxY + 2.0D) >> 4, index.maxSectionY);
+        int minZ = MathHelper.floor(box.minZ - 2.0D) >> 4;
+        int maxZ = MathHelper.floor(box.maxZ + 2.0D) >> 4;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    Set<BeeEntity> bees = index.bees.get(SectionPos.asLong(x, y, z));
+                    if (bees == null) continue;
+                    for (BeeEntity bee : bees) {
+                        if (!bee.removed && bee.getBoundingBox().intersects(box)) {
+                            consumer.accept(bee);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static WorldIndex getOrCreate(IWorld world) {
+        return INDICES.computeIfAbsent(world, w -> new WorldIndex());
+    }
+
+    private static long sectionKey(BlockPos pos) {
+        return SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+    }
+
+    private static long sectionKey(Entity entity) {
+        return SectionPos.asLong(MathHelper.floor(entity.getX()) >> 4, MathHelper.floor(entity.getY()) >> 4, MathHelper.floor(entity.getZ()) >> 4);
+    }
+
+    private static class WorldIndex {
+        private final Long2ObjectMap<Set<BeeEntity>> bees = new Long2ObjectOpenHashMap<>();
+        private final Object2LongMap<BeeEntity> beeSections = new Object2LongOpenHashMap<>();
+        private final Long2ObjectMap<Set<BlockPos>> hives = new Long2ObjectOpenHashMap<>();
+        private int minSectionY = Integer.MAX_VALUE;
+        private int maxSectionY = Integer.MIN_VALUE;
+
+        private void moveBee(BeeEntity bee) {
+            long key = sectionKey(bee);
+            if (beeSections.containsKey(bee)) {
+                long oldKey = beeSections.getLong(bee);
+                if (oldKey == key) return;
+                removeFromSection(bee, oldKey);
+            }
+            beeSections.put(bee, key);
+            Set<BeeEntity> section = bees.get(key);
+            if (section == null) {
+                section = new HashSet<>();
+                bees.put(key, section);
+            }
+            section.add(bee);
+            int sectionY = MathHelper.floor(bee.getY()) >> 4;
+            minSectionY = Math.min(minSectionY, sectionY);
+            maxSectionY = Math.max(maxSectionY, sectionY);
+        }
+
+        private void removeBee(BeeEntity bee) {
+            if (beeSections.containsKey(bee)) {
+                removeFromSection(bee, beeSections.removeLong(bee));
+            }
+        }
+
+        private void removeFromSection(BeeEntity bee, long key) {
+            Set<BeeEntity> section = bees.get(key);
+            if (section != null) {
+                section.remove(bee);
+                if (section.isEmpty()) bees.remove(key);
+            }
+        }
+    }
+}
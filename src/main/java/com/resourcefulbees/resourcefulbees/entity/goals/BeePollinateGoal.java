@@ -1,28 +1,27 @@
 package com.resourcefulbees.resourcefulbees.entity.goals;
 
+import com.resourcefulbees.resourcefulbees.api.beedata.CustomBeeData;
+import com.resourcefulbees.resourcefulbees.entity.BeeIndex;
 import com.resourcefulbees.resourcefulbees.entity.passive.CustomBeeEntity;
 import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
 import com.resourcefulbees.resourcefulbees.mixin.BeeEntityAccessor;
-import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
-import com.resourcefulbees.resourcefulbees.utils.validation.ValidatorUtils;
-import net.minecraft.block.Block;
+import com.resourcefulbees.resourcefulbees.registry.BeeRegistry;
+import com.resourcefulbees.resourcefulbees.utils.FlowerPredicates;
+import com.resourcefulbees.resourcefulbees.utils.profiler.TickProfiler;
 import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
-import net.minecraft.block.DoublePlantBlock;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.ai.goal.Goal;
-import net.minecraft.state.properties.DoubleBlockHalf;
-import net.minecraft.tags.BlockTags;
-import net.minecraft.tags.ITag;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.util.math.vector.Vector3d;
 
+import javax.annotation.Nullable;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
@@ -37,6 +36,9 @@ public class BeePollinateGoal extends Goal {
     private final String flower;
     private Vector3d boundingBox;
     private MutableBoundingBox box = null;
+    private String flowerEntityName;
+    @Nullable
+    private String flowerBeeType;
 
     public BeePollinateGoal(CustomBeeEntity beeEntity, String flowerData) {
         this.setMutexFlags(EnumSet.of(Goal.Flag.MOVE));
@@ -95,12 +97,18 @@ public class BeePollinateGoal extends Goal {
 
     @Override
     public boolean shouldExecute() {
-        return this.canBeeStart() && !bee.hasAngerTime();
+        long start = TickProfiler.begin();
+        boolean shouldExecute = this.canBeeStart() && !bee.hasAngerTime();
+        TickProfiler.end(this, bee, start);
+        return shouldExecute;
     }
 
     @Override
     public boolean shouldContinueExecuting() {
-        return this.canBeeContinue() && !bee.hasAngerTime();
+        long start = TickProfiler.begin();
+        boolean shouldContinue = this.canBeeContinue() && !bee.hasAngerTime();
+        TickProfiler.end(this, bee, start);
+        return shouldContinue;
     }
 
 
@@ -130,6 +138,12 @@ public class BeePollinateGoal extends Goal {
     }
 
     public void tick() {
+        long start = TickProfiler.begin();
+        tickPollination();
+        TickProfiler.end(this, bee, start);
+    }
+
+    private void tickPollination() {
         ++this.ticks;
         if (this.ticks > 600) {
             this.clearTask();
@@ -198,6 +212,7 @@ public class BeePollinateGoal extends Goal {
         BlockPos.Mutable mutableBlockPos = new BlockPos.Mutable(0, 0, 0);
 
         if (!isEntity) {
+            if (FlowerPredicates.getFlowerStates(flower).isEmpty()) return Optional.empty();
             if (box == null)
                 box = MutableBoundingBox.createProper(blockpos.getX() + 5, blockpos.getY() + 5, blockpos.getZ() + 5, blockpos.getX() - 5, blockpos.getY() - 5, blockpos.getZ() - 5);
             else {
@@ -218,8 +233,20 @@ public class BeePollinateGoal extends Goal {
             });
             if (lastDistance.get() < 100) return Optional.of(mutableBlockPos);
         } else {
-            List<Entity> entityList = bee.world.getEntitiesInAABBexcluding(bee, (new AxisAlignedBB(bee.getBlockPos())).grow(range),
-                    (entity) -> entity.getEntityString() != null && entity.getEntityString().equals(entityRegistryName));
+            AxisAlignedBB searchBox = new AxisAlignedBB(bee.getBlockPos()).grow(range);
+            if (!entityRegistryName.equals(flowerEntityName)) {
+                flowerEntityName = entityRegistryName;
+                flowerBeeType = getCustomBeeType(entityRegistryName);
+            }
+            List<? extends Entity> entityList;
+            if (flowerBeeType != null) {
+                List<CustomBeeEntity> flowerBees = BeeIndex.getBees(bee.world, searchBox, flowerBeeType);
+                flowerBees.remove(bee);
+                entityList = flowerBees;
+            } else {
+                entityList = bee.world.getEntitiesInAABBexcluding(bee, searchBox,
+                        (entity) -> entity.getEntityString() != null && entity.getEntityString().equals(entityRegistryName));
+            }
             if (!entityList.isEmpty()) {
                 Entity firstEntity = entityList.get(0);
                 bee.setFlowerEntityID(firstEntity.getEntityId());
@@ -230,31 +257,22 @@ public class BeePollinateGoal extends Goal {
         return Optional.empty();
     }
 
-    public Predicate<BlockPos> getFlowerBlockPredicate() {
-        return pos -> {
-
-            if (bee.world != null) {
-                BlockState state = bee.world.getBlockState(pos);
+    /**
+     * Returns the bee type if the given entity registry name belongs to a custom bee, so the flower can be looked up
+     * in the {@link BeeIndex} instead of scanning every entity in range.
+     */
+    @Nullable
+    private static String getCustomBeeType(String entityRegistryName) {
+        for (CustomBeeData beeData : BeeRegistry.getRegistry().getBees().values()) {
+            if (beeData.getEntityTypeRegistryID() != null && beeData.getEntityTypeRegistryID().toString().equals(entityRegistryName)) {
+                return beeData.getName();
+            }
+        }
+        return null;
+    }
 
-                if (ValidatorUtils.TAG_RESOURCE_PATTERN.matcher(flower).matches()) {
-                    ITag<Block> blockTag = BeeInfoUtils.getBlockTag(flower.replace(BeeConstants.TAG_PREFIX, ""));
-                    return blockTag != null && state.isIn(blockTag);
-                } else {
-                    switch (flower) {
-                        case BeeConstants.FLOWER_TAG_ALL:
-                            return state.isIn(BlockTags.TALL_FLOWERS)
-                                    ? state.getBlock() != Blocks.SUNFLOWER
-                                    || state.get(DoublePlantBlock.HALF) == DoubleBlockHalf.UPPER
-                                    : state.isIn(BlockTags.SMALL_FLOWERS);
-                        case BeeConstants.FLOWER_TAG_SMALL:
-                            return state.isIn(BlockTags.SMALL_FLOWERS);
-                        case BeeConstants.FLOWER_TAG_TALL:
-                            return state.isIn(BlockTags.TALL_FLOWERS) && (state.getBlock() != Blocks.SUNFLOWER || state.get(DoublePlantBlock.HALF) == DoubleBlockHalf.UPPER);
-                        default:
-                            return state.getBlock().equals(BeeInfoUtils.getBlock(flower));
-                    }
-                }
-            } else return false;
-        };
+    public Predicate<BlockPos> getFlowerBlockPredicate() {
+        Set<BlockState> flowerStates = FlowerPredicates.getFlowerStates(flower);
+        return pos -> bee.world != null && flowerStates.contains(bee.world.getBlockState(pos));
     }
 }
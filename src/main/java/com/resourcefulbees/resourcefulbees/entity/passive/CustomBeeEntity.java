@@ -5,6 +5,8 @@ import com.resourcefulbees.resourcefulbees.api.beedata.CustomBeeData;
 import com.resourcefulbees.resourcefulbees.api.beedata.SpawnData;
 import com.resourcefulbees.resourcefulbees.api.beedata.TraitData;
 import com.resourcefulbees.resourcefulbees.config.Config;
+import com.resourcefulbees.resourcefulbees.entity.BeeIndex;
+import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
 import com.resourcefulbees.resourcefulbees.lib.NBTConstants;
 import com.resourcefulbees.resourcefulbees.registry.BeeRegistry;
 import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
@@ -140,6 +142,9 @@ public class CustomBeeEntity extends ModBeeEntity implements ICustomBee {
             if (Config.BEES_DIE_IN_VOID.get() && this.getPositionVec().y <= 0) {
                 this.remove();
             }
+            if (this.ticksExisted % 100 == 0) {
+                hasHiveInRange = BeeIndex.isHiveInRange(world, getBlockPos(), BeeConstants.HIVE_RANGE);
+            }
             if (!hasCustomName()) {
                 if (this.ticksExisted % 100 == 0) {
                     if (hasHiveInRange() || hasFlower() || isPassenger() || getLeashed() || hasNectar()) {
@@ -148,7 +153,6 @@ public class CustomBeeEntity extends ModBeeEntity implements ICustomBee {
                         timeWithoutHive += 100;
                         if (timeWithoutHive >= 12000) this.remove();
                     }
-                    hasHiveInRange = false;
                 }
             }
             if (this.ticksExisted % 100 == 0) {
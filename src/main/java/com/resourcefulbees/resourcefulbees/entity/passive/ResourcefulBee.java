@@ -11,8 +11,8 @@ import com.resourcefulbees.resourcefulbees.registry.BeeRegistry;
 import com.resourcefulbees.resourcefulbees.registry.ModPOIs;
 import com.resourcefulbees.resourcefulbees.tileentity.TieredBeehiveTileEntity;
 import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary.ApiaryTileEntity;
-import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
-import com.resourcefulbees.resourcefulbees.utils.validation.ValidatorUtils;
+import com.resourcefulbees.resourcefulbees.utils.FlowerPredicates;
+import com.resourcefulbees.resourcefulbees.utils.profiler.TickProfiler;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.*;
@@ -28,14 +28,11 @@ import net.minecraft.particles.ParticleTypes;
 import net.minecraft.potion.Effect;
 import net.minecraft.potion.EffectInstance;
 import net.minecraft.potion.Effects;
-import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
-import net.minecraft.tags.ITag;
 import net.minecraft.tileentity.BeehiveTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.Direction;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
@@ -55,6 +52,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -163,9 +161,12 @@ public class ResourcefulBee extends CustomBeeEntity {
 
     public void applyPollinationEffect() {
         if (getBeeData().getMutationData().hasMutation()) {
-            AxisAlignedBB box = this.getMutationBoundingBox();
-            List<Entity> entityList = this.world.getEntitiesInAABBexcluding(this, box, (entity) ->
-                    getBeeData().getMutationData().iEntityMutations.get(entity.getType()) != null);
+            List<Entity> entityList = Collections.emptyList();
+            if (!getBeeData().getMutationData().iEntityMutations.isEmpty()) {
+                AxisAlignedBB box = this.getMutationBoundingBox();
+                entityList = this.world.getEntitiesInAABBexcluding(this, box, (entity) ->
+                        getBeeData().getMutationData().iEntityMutations.get(entity.getType()) != null);
+            }
             if (!entityList.isEmpty()) {
 
                 MutationData.IEntityMutation mutation = getBeeData().getMutationData().iEntityMutations.get(entityList.get(0).getType());
@@ -187,25 +188,10 @@ public class ResourcefulBee extends CustomBeeEntity {
                 FluidState fluidState = world.getFluidState(beePosDown);
                 BlockState state = world.getBlockState(beePosDown);
                 Block block = state.getBlock();
-                MutationData.IBlockMutation mutation = getBeeData().getMutationData().iBlockMutations.get(block);
+                MutationData.IBlockMutation mutation = getBeeData().getMutationData().getBlockMutation(block, fluidState);
                 MutationData.IItemMutation itemMutation = null;
                 if (mutation == null) {
-                    itemMutation = getBeeData().getMutationData().iBlockItemMutations.get(block);
-                }
-                if (mutation == null && itemMutation == null) {
-                    if (fluidState != null && !fluidState.isEmpty()) {
-                        for (ResourceLocation resourceLocation : fluidState.getFluid().getTags()) {
-                            mutation = getBeeData().getMutationData().iBlockTagMutations.get(resourceLocation.toString());
-                            itemMutation = getBeeData().getMutationData().iBlockItemTagMutations.get(resourceLocation.toString());
-                            if (mutation != null || itemMutation != null) break;
-                        }
-                    } else {
-                        for (ResourceLocation resourceLocation : block.getTags()) {
-                            mutation = getBeeData().getMutationData().iBlockTagMutations.get(resourceLocation.toString());
-                            itemMutation = getBeeData().getMutationData().iBlockItemTagMutations.get(resourceLocation.toString());
-                            if (mutation != null || itemMutation != null) break;
-                        }
-                    }
+                    itemMutation = getBeeData().getMutationData().getItemMutation(block, fluidState);
                 }
                 if (mutation != null) {
                     Pair<Block, MutationData.MutationOutputData> output = mutation.outputs.next();
@@ -248,24 +234,10 @@ public class ResourcefulBee extends CustomBeeEntity {
     @Override
     public boolean isFlowers(@Nonnull BlockPos pos) {
         String flower = getBeeData().getFlower();
-
-        if (ValidatorUtils.TAG_RESOURCE_PATTERN.matcher(flower).matches()) {
-            ITag<Block> blockTag = BeeInfoUtils.getBlockTag(flower.replace(BeeConstants.TAG_PREFIX, ""));
-            return blockTag != null && this.world.getBlockState(pos).getBlock().isIn(blockTag);
-        } else if (ValidatorUtils.ENTITY_RESOURCE_PATTERN.matcher(flower).matches()) {
+        if (flower.startsWith(BeeConstants.ENTITY_PREFIX)) {
             return this.world.getEntityByID(this.getFlowerEntityID()) != null;
-        } else {
-            switch (flower) {
-                case BeeConstants.FLOWER_TAG_ALL:
-                    return this.world.isBlockPresent(pos) && this.world.getBlockState(pos).getBlock().isIn(BlockTags.FLOWERS);
-                case BeeConstants.FLOWER_TAG_SMALL:
-                    return this.world.isBlockPresent(pos) && this.world.getBlockState(pos).getBlock().isIn(BlockTags.SMALL_FLOWERS);
-                case BeeConstants.FLOWER_TAG_TALL:
-                    return this.world.isBlockPresent(pos) && this.world.getBlockState(pos).getBlock().isIn(BlockTags.TALL_FLOWERS);
-                default:
-                    return this.world.isBlockPresent(pos) && BeeInfoUtils.isValidBlock(BeeInfoUtils.getBlock(flower)) && this.world.getBlockState(pos).getBlock().equals(BeeInfoUtils.getBlock(flower));
-            }
         }
+        return this.world.isBlockPresent(pos) && FlowerPredicates.isFlower(flower, this.world.getBlockState(pos));
     }
 
     protected void updateAITasks() {
@@ -484,6 +456,21 @@ public class ResourcefulBee extends CustomBeeEntity {
             super();
         }
 
+        @Override
+        public boolean canBeeStart() {
+            long start = TickProfiler.begin();
+            boolean canStart = super.canBeeStart();
+            TickProfiler.end(this, ResourcefulBee.this, start);
+            return canStart;
+        }
+
+        @Override
+        public void startExecuting() {
+            long start = TickProfiler.begin();
+            super.startExecuting();
+            TickProfiler.end(this, ResourcefulBee.this, start);
+        }
+
         @Nonnull
         public List<BlockPos> getNearbyFreeHives() {
             BlockPos blockpos = ResourcefulBee.this.getBlockPos();
@@ -504,6 +491,13 @@ public class ResourcefulBee extends CustomBeeEntity {
 
         @Override
         public boolean canBeeStart() {
+            long start = TickProfiler.begin();
+            boolean canStart = canFindPollinationTarget();
+            TickProfiler.end(this, ResourcefulBee.this, start);
+            return canStart;
+        }
+
+        private boolean canFindPollinationTarget() {
             if (ResourcefulBee.this.getCropsGrownSincePollination() >= getBeeData().getMutationData().getMutationCount()) {
                 return false;
             } else if (ResourcefulBee.this.rand.nextFloat() < 0.3F) {
@@ -515,6 +509,7 @@ public class ResourcefulBee extends CustomBeeEntity {
 
         @Override
         public void tick() {
+            long start = TickProfiler.begin();
             if (world.getGameTime() % 5 == 0) {
                 if (getBeeData().getMutationData().hasMutation() && (!getBeeData().getMutationData().iBlockTagMutations.isEmpty() ||
                         !getBeeData().getMutationData().iBlockMutations.isEmpty() ||
@@ -523,6 +518,7 @@ public class ResourcefulBee extends CustomBeeEntity {
                         !getBeeData().getMutationData().iEntityMutations.isEmpty()))
                     applyPollinationEffect();
             }
+            TickProfiler.end(this, ResourcefulBee.this, start);
         }
     }
 
@@ -1,6 +1,7 @@
 package com.resourcefulbees.resourcefulbees.init;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.resourcefulbees.resourcefulbees.ResourcefulBees;
 import com.resourcefulbees.resourcefulbees.api.beedata.CustomBeeData;
 import com.resourcefulbees.resourcefulbees.api.beedata.HoneyBottleData;
@@ -22,12 +23,18 @@ import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.loading.moddiscovery.ModFileInfo;
 import net.minecraftforge.registries.ForgeRegistries;
 
+import javax.annotation.Nullable;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
-import java.util.zip.ZipEntry;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipFile;
 
 import static com.resourcefulbees.resourcefulbees.ResourcefulBees.LOGGER;
@@ -37,6 +44,8 @@ import static com.resourcefulbees.resourcefulbees.config.Config.GENERATE_DEFAULT
 public class BeeSetup {
 
 
+    private static final Gson GSON = new Gson();
+
     public static Path BEE_PATH;
     public static Path RESOURCE_PATH;
     public static Path HONEY_PATH;
@@ -54,141 +63,167 @@ public class BeeSetup {
         addHoney();
     }
 
-    private static void parseBee(File file) throws IOException {
-        String name = file.getName();
-        name = name.substring(0, name.indexOf('.')).toLowerCase();
-
-        Reader r = Files.newBufferedReader(file.toPath());
-
-        parseBee(r, name);
-    }
-
-    private static void parseBee(ZipFile zf, ZipEntry zipEntry) throws IOException {
-        String name = zipEntry.getName();
-        name = name.substring(name.lastIndexOf("/") + 1, name.indexOf('.'));
-
-        InputStream input = zf.getInputStream(zipEntry);
-        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
-
-        parseBee(reader, name);
-    }
-
-    private static void parseBee(Reader reader, String name) {
-        name = name.toLowerCase().replace(" ", "_");
-        Gson gson = new Gson();
-        CustomBeeData bee = gson.fromJson(reader, CustomBeeData.class);
-        bee.setName(name);
-        bee.shouldResourcefulBeesDoForgeRegistration = true;
-        BeeRegistry.getRegistry().registerBee(name.toLowerCase(Locale.ENGLISH), bee);
-    }
-
-    private static void parseHoney(File file) throws IOException {
-        String name = file.getName();
-        name = name.substring(0, name.indexOf('.'));
-
-        Reader r = Files.newBufferedReader(file.toPath());
-
-        parseHoney(r, name);
-    }
-
-    private static void parseHoney(ZipFile zf, ZipEntry zipEntry) throws IOException {
-        String name = zipEntry.getName();
-        name = name.substring(name.lastIndexOf("/") + 1, name.indexOf('.'));
-
-        InputStream input = zf.getInputStream(zipEntry);
-        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
-
-        parseHoney(reader, name);
+    private static void addBees() {
+        loadDefinitions(BEE_PATH, "bee", CustomBeeData.class, (name, bee) -> {
+            bee.setName(name);
+            bee.shouldResourcefulBeesDoForgeRegistration = true;
+            return BeeRegistry.getRegistry().registerBee(name, bee);
+        });
     }
 
-    private static void parseHoney(Reader reader, String name) {
-        name = name.toLowerCase().replace(" ", "_");
-        Gson gson = new Gson();
-        HoneyBottleData honey = gson.fromJson(reader, HoneyBottleData.class);
-        if (honey.getName() == null) honey.setName(name);
-        honey.shouldResourcefulBeesDoForgeRegistration = true;
-        BeeRegistry.getRegistry().registerHoney(honey.getName().toLowerCase(), honey);
+    private static void addHoney() {
+        loadDefinitions(HONEY_PATH, "honey", HoneyBottleData.class, (name, honey) -> {
+            if (honey.getName() == null) honey.setName(name);
+            honey.shouldResourcefulBeesDoForgeRegistration = true;
+            return BeeRegistry.getRegistry().registerHoney(honey.getName().toLowerCase(Locale.ENGLISH), honey);
+        });
     }
 
-    private static void addBees() {
+    /**
+     * Parses every definition in the directory with {@link #parseDefinitions}, then registers the results on the
+     * calling thread. Every failure is listed in the summary, and if any definition could not be parsed or was
+     * rejected by the validator the summary is thrown once everything has been tried, since starting without it would
+     * drop its entities and items from existing worlds.
+     */
+    private static <T> void loadDefinitions(Path directory, String kind, Class<T> type, BiPredicate<String, T> register) {
+        long start = System.nanoTime();
+        List<String> failures = new ArrayList<>();
         try {
-            Files.walk(BEE_PATH)
-                    .filter(f -> f.getFileName().toString().endsWith(".zip"))
-                    .forEach(BeeSetup::addZippedBee);
-            Files.walk(BEE_PATH)
-                    .filter(f -> f.getFileName().toString().endsWith(".json"))
-                    .forEach(BeeSetup::addBee);
+            List<ParsedDefinition<T>> parsed = parseDefinitions(directory, type, failures);
+
+            int registered = 0;
+            int invalid = 0;
+            long parseNanos = 0;
+            for (ParsedDefinition<T> definition : parsed) {
+                parseNanos += definition.nanos;
+                if (definition.data == null) {
+                    failures.add(definition.source.origin + ": " + definition.error);
+                    invalid++;
+                    continue;
+                }
+                try {
+                    if (register.test(definition.source.name, definition.data)) {
+                        registered++;
+                    } else if (!BeeRegistry.getRegistry().isRegistrationAllowed()) {
+                        failures.add(definition.source.origin + ": registration is closed");
+                    } else {
+                        failures.add(definition.source.origin + ": a " + kind + " with the same name is already registered");
+                    }
+                } catch (IllegalArgumentException e) {
+                    failures.add(definition.source.origin + ": " + e.getMessage());
+                    invalid++;
+                }
+            }
+
+            StringBuilder summary = new StringBuilder(String.format("Registered %d of %d %s definitions from %s in %.1f ms (%.1f ms parsing across threads)",
+                    registered, parsed.size(), kind, directory, (System.nanoTime() - start) / 1.0E6D, parseNanos / 1.0E6D));
+            failures.forEach(failure -> summary.append("\n    Failed ").append(failure));
+            if (failures.isEmpty()) {
+                LOGGER.info(summary);
+            } else {
+                LOGGER.warn(summary);
+            }
+            if (LOGGER.isDebugEnabled()) {
+                StringBuilder timings = new StringBuilder(String.format("Parse times for %s definitions:", kind));
+                parsed.stream()
+                        .sorted(Comparator.comparingLong((ParsedDefinition<T> definition) -> definition.nanos).reversed())
+                        .forEach(definition -> timings.append(String.format("\n    %s: %.2f ms", definition.source.origin, definition.nanos / 1.0E6D)));
+                LOGGER.debug(timings);
+            }
+            if (invalid > 0) {
+                throw new IllegalStateException(String.format("%d invalid %s definitions:\n%s", invalid, kind, summary));
+            }
         } catch (IOException e) {
-            e.printStackTrace();
+            LOGGER.error("Could not read {} definitions from {}", kind, directory, e);
         }
     }
 
-    private static void addHoney() {
+    /**
+     * Parses every json in the directory and in any zip files inside it, using all available cores. Zip files come
+     * first and everything is sorted by path so the registration order doesn't depend on the file system. Zip files
+     * that can't be opened are added to the failures.
+     */
+    static <T> List<ParsedDefinition<T>> parseDefinitions(Path directory, Class<T> type, List<String> failures) throws IOException {
+        List<ZipFile> zipFiles = new ArrayList<>();
         try {
-            Files.walk(HONEY_PATH)
-                    .filter(f -> f.getFileName().toString().endsWith(".zip"))
-                    .forEach(BeeSetup::addZippedHoney);
-            Files.walk(HONEY_PATH)
-                    .filter(f -> f.getFileName().toString().endsWith(".json"))
-                    .forEach(BeeSetup::addHoney);
-        } catch (IOException e) {
-            e.printStackTrace();
+            List<DefinitionSource> sources = new ArrayList<>();
+            for (Path zip : listFiles(directory, ".zip")) {
+                try {
+                    ZipFile zipFile = new ZipFile(zip.toFile());
+                    zipFiles.add(zipFile);
+                    zipFile.stream()
+                            .filter(entry -> entry.getName().endsWith(".json"))
+                            .forEach(entry -> sources.add(new DefinitionSource(zip.getFileName() + "!/" + entry.getName(), entry.getName(),
+                                    () -> new BufferedReader(new InputStreamReader(zipFile.getInputStream(entry), StandardCharsets.UTF_8)))));
+                } catch (IOException e) {
+                    failures.add(zip.getFileName() + ": could not read zip file, " + e.getMessage());
+                }
+            }
+            for (Path json : listFiles(directory, ".json")) {
+                sources.add(new DefinitionSource(directory.relativize(json).toString(), json.getFileName().toString(), () -> Files.newBufferedReader(json)));
+            }
+
+            return sources.parallelStream()
+                    .map(source -> source.parse(type))
+                    .collect(Collectors.toList());
+        } finally {
+            for (ZipFile zipFile : zipFiles) {
+                try {
+                    zipFile.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Could not close zip file {}", zipFile.getName());
+                }
+            }
         }
     }
 
-    private static void addHoney(Path file) {
-        File f = file.toFile();
-        try {
-            parseHoney(f);
-        } catch (IOException e) {
-            LOGGER.error("File not found when parsing honey");
+    private static List<Path> listFiles(Path directory, String extension) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(extension))
+                    .sorted()
+                    .collect(Collectors.toList());
         }
     }
 
-    private static void addZippedHoney(Path file) {
-        try {
-            ZipFile zf = new ZipFile(file.toString());
-            zf.stream().forEach(zipEntry -> {
-                if (zipEntry.getName().endsWith(".json")) {
-                    try {
-                        parseHoney(zf, zipEntry);
-                    } catch (IOException e) {
-                        String name = zipEntry.getName();
-                        name = name.substring(name.lastIndexOf("/") + 1, name.indexOf('.'));
-                        LOGGER.error("Could not parse {} honey from ZipFile", name);
-                    }
-                }
-            });
-        } catch (IOException e) {
-            LOGGER.warn("Could not read ZipFile! ZipFile: " + file.getFileName());
-        }
+    private interface ReaderSupplier {
+        Reader open() throws IOException;
     }
 
-    private static void addBee(Path file) {
-        File f = file.toFile();
-        try {
-            parseBee(f);
-        } catch (IOException e) {
-            LOGGER.error("File not found when parsing bees");
+    private static class DefinitionSource {
+        private final String origin;
+        private final String name;
+        private final ReaderSupplier reader;
+
+        private DefinitionSource(String origin, String path, ReaderSupplier reader) {
+            this.origin = origin;
+            String fileName = path.substring(path.lastIndexOf('/') + 1);
+            this.name = fileName.substring(0, fileName.indexOf('.')).toLowerCase(Locale.ENGLISH).replace(" ", "_");
+            this.reader = reader;
+        }
+
+        private <T> ParsedDefinition<T> parse(Class<T> type) {
+            long start = System.nanoTime();
+            try (Reader r = reader.open()) {
+                T data = GSON.fromJson(r, type);
+                if (data == null) return new ParsedDefinition<>(this, null, "file is empty", System.nanoTime() - start);
+                return new ParsedDefinition<>(this, data, null, System.nanoTime() - start);
+            } catch (IOException | JsonParseException e) {
+                return new ParsedDefinition<>(this, null, e.getMessage(), System.nanoTime() - start);
+            }
         }
     }
 
-    private static void addZippedBee(Path file) {
-        try {
-            ZipFile zf = new ZipFile(file.toString());
-            zf.stream().forEach(zipEntry -> {
-                if (zipEntry.getName().endsWith(".json")) {
-                    try {
-                        parseBee(zf, zipEntry);
-                    } catch (IOException e) {
-                        String name = zipEntry.getName();
-                        name = name.substring(name.lastIndexOf("/") + 1, name.indexOf('.'));
-                        LOGGER.error("Could not parse {} bee from ZipFile", name);
-                    }
-                }
-            });
-        } catch (IOException e) {
-            LOGGER.warn("Could not read ZipFile! ZipFile: " + file.getFileName());
+    static class ParsedDefinition<T> {
+        private final DefinitionSource source;
+        private final T data;
+        private final String error;
+        private final long nanos;
+
+        private ParsedDefinition(DefinitionSource source, @Nullable T data, @Nullable String error, long nanos) {
+            this.source = source;
+            this.data = data;
+            this.error = error;
+            this.nanos = nanos;
         }
     }
 
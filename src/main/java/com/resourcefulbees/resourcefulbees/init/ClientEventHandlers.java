@@ -34,6 +34,7 @@ public class ClientEventHandlers {
         FMLJavaModLoadingContext.get().getModEventBus().addListener(ClientEventHandlers::doClientStuff);
         FMLJavaModLoadingContext.get().getModEventBus().addListener(ColorHandler::onItemColors);
         FMLJavaModLoadingContext.get().getModEventBus().addListener(ColorHandler::onBlockColors);
+        FMLJavaModLoadingContext.get().getModEventBus().addListener(RenderHoneyTank::onTextureStitch);
         MinecraftForge.EVENT_BUS.addListener(FluidRender::honeyOverlay);
     }
 
@@ -7,7 +7,6 @@ import com.resourcefulbees.resourcefulbees.item.dispenser.ScraperDispenserBehavi
 import com.resourcefulbees.resourcefulbees.item.dispenser.ShearsDispenserBehavior;
 import com.resourcefulbees.resourcefulbees.mixin.DispenserBlockInvoker;
 import com.resourcefulbees.resourcefulbees.registry.ModItems;
-import com.resourcefulbees.resourcefulbees.utils.color.RainbowColor;
 import net.minecraft.block.BeehiveBlock;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -53,7 +52,6 @@ public class ModSetup {
     public static void initialize(){
         setupPaths();
         DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> ModSetup::loadResources);
-        DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> RainbowColor::init);
     }
 
     private static void setupPaths(){
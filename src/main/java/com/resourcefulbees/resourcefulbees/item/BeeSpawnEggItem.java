@@ -29,6 +29,8 @@ import java.util.Optional;
 
 public class BeeSpawnEggItem extends SpawnEggItem {
 
+	private static final int VANILLA_BEE_COLOR = Color.parseInt(BeeConstants.VANILLA_BEE_COLOR);
+
 	private final Lazy<? extends EntityType<?>> entityType;
 	private final ColorData colorData;
 
@@ -47,7 +49,7 @@ public class BeeSpawnEggItem extends SpawnEggItem {
 
     public static int getColor(ItemStack stack, int tintIndex) {
 	    ColorData colorData = ((BeeSpawnEggItem)stack.getItem()).colorData;
-	    int primaryColor = Color.parseInt(BeeConstants.VANILLA_BEE_COLOR);
+	    int primaryColor = VANILLA_BEE_COLOR;
 	    int secondaryColor = 0x303030;
 
 	    if (colorData.hasPrimaryColor()) {
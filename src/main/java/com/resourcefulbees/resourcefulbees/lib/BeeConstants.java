@@ -20,6 +20,9 @@ public class BeeConstants {
     public static final int SMOKE_TIME = 600;
     public static final int MIN_HIVE_TIME = 600;
     public static final int MAX_TIME_IN_HIVE = 2400;
+    public static final int HIVE_RANGE = 10;
+    public static final int POLLINATION_TICKS = 400;
+    public static final int FLIGHT_TICKS_PER_BLOCK = 4;
     public static final double DEFAULT_BREED_WEIGHT = 10;
     public static final float DEFAULT_BREED_CHANCE = 1.0f;
     public static final float DEFAULT_MAIN_OUTPUT_WEIGHT = 1.0f;
@@ -17,6 +17,7 @@ public class NBTConstants {
     public static final String NBT_VERT_OFFSET = "verticalOffset";
     public static final String NBT_HOR_OFFSET = "horizontalOffset";
     public static final String NBT_TIER = "Tier";
+    public static final String NBT_LAST_TICK_TIME = "LastTickTime";
     public static final String NBT_TIER_MODIFIER = "TierModifier";
     public static final String NBT_BEES = "Bees";
     public static final String NBT_STORAGE_POS = "StoragePos";
@@ -0,0 +1,30 @@
+package com.resourcefulbees.resourcefulbees.mixin;
+
+import com.resourcefulbees.resourcefulbees.utils.profiler.TickProfiler;
+import net.minecraft.profiler.IProfiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
+
+import java.util.Iterator;
+
+@Mixin(World.class)
+public abstract class MixinWorld {
+
+    @Inject(method = "tickBlockEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/ITickableTileEntity;tick()V"), locals = LocalCapture.CAPTURE_FAILHARD)
+    private void beforeTileEntityTick(CallbackInfo ci, IProfiler profiler, Iterator<TileEntity> iterator, TileEntity tileEntity, BlockPos pos) {
+        if (!TickProfiler.isEnabled() || ((World) (Object) this).isRemote) return;
+        TickProfiler.beginTileEntity(tileEntity);
+    }
+
+    @Inject(method = "tickBlockEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/ITickableTileEntity;tick()V", shift = At.Shift.AFTER), locals = LocalCapture.CAPTURE_FAILHARD)
+    private void afterTileEntityTick(CallbackInfo ci, IProfiler profiler, Iterator<TileEntity> iterator, TileEntity tileEntity, BlockPos pos) {
+        if (!TickProfiler.isEnabled() || ((World) (Object) this).isRemote) return;
+        TickProfiler.endTileEntity(tileEntity);
+    }
+}
@@ -13,7 +13,7 @@ import net.minecraftforge.fml.network.simple.SimpleChannel;
 public class NetPacketHandler {
 
     private static int id = 0;
-    private static final String PROTOCOL_VERSION = Integer.toString(1);
+    private static final String PROTOCOL_VERSION = Integer.toString(2);
     public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(
             new ResourceLocation(ResourcefulBees.MOD_ID, "main_channel"),
             () -> PROTOCOL_VERSION,
@@ -34,6 +34,8 @@ public class NetPacketHandler {
         INSTANCE.registerMessage(++id, SyncGUIMessage.class, SyncGUIMessage::encode, SyncGUIMessage::decode, SyncGUIMessage::handle);
         INSTANCE.registerMessage(++id, UpdateBeeconMessage.class, UpdateBeeconMessage::encode, UpdateBeeconMessage::decode, UpdateBeeconMessage::handle);
         INSTANCE.registerMessage(++id, UpdateClientBeeconMessage.class, UpdateClientBeeconMessage::encode, UpdateClientBeeconMessage::decode, UpdateClientBeeconMessage::handle);
+        INSTANCE.registerMessage(++id, SyncApiaryBeesMessage.class, SyncApiaryBeesMessage::encode, SyncApiaryBeesMessage::decode, SyncApiaryBeesMessage::handle);
+        INSTANCE.registerMessage(++id, RequestApiarySyncMessage.class, RequestApiarySyncMessage::encode, RequestApiarySyncMessage::decode, RequestApiarySyncMessage::handle);
     }
 
     public static void sendToServer(Object message) {
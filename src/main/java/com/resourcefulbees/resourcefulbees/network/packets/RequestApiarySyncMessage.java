@@ -0,0 +1,45 @@
+package com.resourcefulbees.resourcefulbees.network.packets;
+
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary.ApiaryTileEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+public class RequestApiarySyncMessage {
+
+    private final BlockPos pos;
+
+    public RequestApiarySyncMessage(BlockPos pos){
+        this.pos = pos;
+    }
+
+    public static void encode(RequestApiarySyncMessage message, PacketBuffer buffer){
+        buffer.writeBlockPos(message.pos);
+    }
+
+    public static RequestApiarySyncMessage decode(PacketBuffer buffer){
+        return new RequestApiarySyncMessage(buffer.readBlockPos());
+    }
+
+    public static void handle(RequestApiarySyncMessage message, Supplier<NetworkEvent.Context> context){
+        context.get().enqueueWork(() -> {
+            ServerPlayerEntity player = context.get().getSender();
+            if (player != null) {
+                if (player.world.isBlockLoaded(message.pos)) {
+                    TileEntity tileEntity = player.world.getTileEntity(message.pos);
+                    if (tileEntity instanceof ApiaryTileEntity) {
+                        ApiaryTileEntity apiaryTileEntity = (ApiaryTileEntity) tileEntity;
+                        if (apiaryTileEntity.isPlayerUsing(player)) {
+                            apiaryTileEntity.sendFullSync(player);
+                        }
+                    }
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+}
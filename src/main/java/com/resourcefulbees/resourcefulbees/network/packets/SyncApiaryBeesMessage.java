@@ -0,0 +1,153 @@
+package com.resourcefulbees.resourcefulbees.network.packets;
+
+import com.resourcefulbees.resourcefulbees.lib.NBTConstants;
+import com.resourcefulbees.resourcefulbees.network.NetPacketHandler;
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary.ApiaryTileEntity;
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary.ApiaryTileEntity.ApiaryBee;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.entity.player.ClientPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class SyncApiaryBeesMessage {
+    private final BlockPos pos;
+    private final int fromRevision;
+    private final int toRevision;
+    private final List<String> removedBees;
+    private final List<ApiaryBee> addedBees;
+    private final List<ChangedBee> changedBees;
+
+    public SyncApiaryBeesMessage(BlockPos pos, int fromRevision, int toRevision, List<String> removedBees, List<ApiaryBee> addedBees, List<ChangedBee> changedBees){
+        this.pos = pos;
+        this.fromRevision = fromRevision;
+        this.toRevision = toRevision;
+        this.removedBees = removedBees;
+        this.addedBees = addedBees;
+        this.changedBees = changedBees;
+    }
+
+    public static void encode(SyncApiaryBeesMessage message, PacketBuffer buffer){
+        buffer.writeBlockPos(message.pos);
+        buffer.writeVarInt(message.fromRevision);
+        buffer.writeVarInt(message.toRevision);
+
+        buffer.writeVarInt(message.removedBees.size());
+        message.removedBees.forEach(buffer::writeString);
+
+        buffer.writeVarInt(message.addedBees.size());
+        message.addedBees.forEach(apiaryBee -> {
+            buffer.writeString(apiaryBee.beeType);
+            buffer.writeString(apiaryBee.entityData.getString(NBTConstants.NBT_ID));
+            buffer.writeVarInt(apiaryBee.ticksInHive);
+            buffer.writeVarInt(apiaryBee.minOccupationTicks);
+            buffer.writeBoolean(apiaryBee.isLocked);
+            buffer.writeString(apiaryBee.beeColor);
+            buffer.writeTextComponent(apiaryBee.displayName);
+        });
+
+        buffer.writeVarInt(message.changedBees.size());
+        message.changedBees.forEach(changedBee -> {
+            buffer.writeString(changedBee.beeType);
+            buffer.writeVarInt(changedBee.ticksInHive);
+            buffer.writeVarInt(changedBee.minOccupationTicks);
+            buffer.writeBoolean(changedBee.isLocked);
+        });
+    }
+
+    public static SyncApiaryBeesMessage decode(PacketBuffer buffer){
+        BlockPos pos = buffer.readBlockPos();
+        int fromRevision = buffer.readVarInt();
+        int toRevision = buffer.readVarInt();
+
+        int removed = buffer.readVarInt();
+        List<String> removedBees = new ArrayList<>(removed);
+        for (int i = 0; i < removed; i++) {
+            removedBees.add(buffer.readString(32767));
+        }
+
+        int added = buffer.readVarInt();
+        List<ApiaryBee> addedBees = new ArrayList<>(added);
+        for (int i = 0; i < added; i++) {
+            String beeType = buffer.readString(32767);
+            CompoundNBT entityData = new CompoundNBT();
+            entityData.putString(NBTConstants.NBT_ID, buffer.readString(32767));
+            int ticksInHive = buffer.readVarInt();
+            int minOccupationTicks = buffer.readVarInt();
+            boolean locked = buffer.readBoolean();
+            ApiaryBee apiaryBee = new ApiaryBee(entityData, ticksInHive, minOccupationTicks, null, beeType, buffer.readString(32767), buffer.readTextComponent());
+            apiaryBee.isLocked = locked;
+            addedBees.add(apiaryBee);
+        }
+
+        int changed = buffer.readVarInt();
+        List<ChangedBee> changedBees = new ArrayList<>(changed);
+        for (int i = 0; i < changed; i++) {
+            changedBees.add(new ChangedBee(buffer.readString(32767), buffer.readVarInt(), buffer.readVarInt(), buffer.readBoolean()));
+        }
+
+        return new SyncApiaryBeesMessage(pos, fromRevision, toRevision, removedBees, addedBees, changedBees);
+    }
+
+    public static void handle(SyncApiaryBeesMessage message, Supplier<NetworkEvent.Context> context){
+        context.get().enqueueWork(() -> {
+            ClientPlayerEntity player = Minecraft.getInstance().player;
+            if (player != null) {
+                if (player.world.isBlockLoaded(message.pos)) {
+                    TileEntity tileEntity = player.world.getTileEntity(message.pos);
+                    if (tileEntity instanceof ApiaryTileEntity && !((ApiaryTileEntity) tileEntity).handleBeeSync(message)) {
+                        NetPacketHandler.sendToServer(new RequestApiarySyncMessage(message.pos));
+                    }
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public int getFromRevision() {
+        return fromRevision;
+    }
+
+    public int getToRevision() {
+        return toRevision;
+    }
+
+    public List<String> getRemovedBees() {
+        return removedBees;
+    }
+
+    public List<ApiaryBee> getAddedBees() {
+        return addedBees;
+    }
+
+    public List<ChangedBee> getChangedBees() {
+        return changedBees;
+    }
+
+    /**
+     * The parts of a bee that can change while it stays in the apiary.
+     */
+    public static class ChangedBee {
+        public final String beeType;
+        public final int ticksInHive;
+        public final int minOccupationTicks;
+        public final boolean isLocked;
+
+        public ChangedBee(String beeType, int ticksInHive, int minOccupationTicks, boolean isLocked) {
+            this.beeType = beeType;
+            this.ticksInHive = ticksInHive;
+            this.minOccupationTicks = minOccupationTicks;
+            this.isLocked = isLocked;
+        }
+
+        public ChangedBee(ApiaryBee apiaryBee) {
+            this(apiaryBee.beeType, apiaryBee.ticksInHive, apiaryBee.minOccupationTicks, apiaryBee.isLocked);
+        }
+    }
+}
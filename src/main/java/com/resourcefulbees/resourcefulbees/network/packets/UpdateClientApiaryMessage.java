@@ -14,19 +14,22 @@ import java.util.function.Supplier;
 public class UpdateClientApiaryMessage {
     private final BlockPos pos;
     private final CompoundNBT data;
+    private final int revision;
 
-    public UpdateClientApiaryMessage(BlockPos pos, CompoundNBT data){
+    public UpdateClientApiaryMessage(BlockPos pos, CompoundNBT data, int revision){
         this.pos = pos;
         this.data = data;
+        this.revision = revision;
     }
 
     public static void encode(UpdateClientApiaryMessage message, PacketBuffer buffer){
         buffer.writeBlockPos(message.pos);
         buffer.writeCompoundTag(message.data);
+        buffer.writeVarInt(message.revision);
     }
 
     public static UpdateClientApiaryMessage decode(PacketBuffer buffer){
-        return new UpdateClientApiaryMessage(buffer.readBlockPos(), buffer.readCompoundTag());
+        return new UpdateClientApiaryMessage(buffer.readBlockPos(), buffer.readCompoundTag(), buffer.readVarInt());
     }
 
     public static void handle(UpdateClientApiaryMessage message, Supplier<NetworkEvent.Context> context){
@@ -37,8 +40,7 @@ public class UpdateClientApiaryMessage {
                     TileEntity tileEntity = player.world.getTileEntity(message.pos);
                     if (tileEntity instanceof ApiaryTileEntity) {
                         ApiaryTileEntity apiaryTileEntity = (ApiaryTileEntity) tileEntity;
-                        apiaryTileEntity.BEES.clear();
-                        apiaryTileEntity.loadFromNBT(message.data);
+                        apiaryTileEntity.handleFullSync(message.data, message.revision);
                     }
                 }
             }
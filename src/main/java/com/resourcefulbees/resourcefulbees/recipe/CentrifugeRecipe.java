@@ -1,12 +1,14 @@
 
 package com.resourcefulbees.resourcefulbees.recipe;
 
+import com.google.common.collect.ImmutableList;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.serialization.JsonOps;
 import com.resourcefulbees.resourcefulbees.ResourcefulBees;
 import com.resourcefulbees.resourcefulbees.config.Config;
+import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
 import com.resourcefulbees.resourcefulbees.registry.ModRecipeSerializers;
 import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
 import com.resourcefulbees.resourcefulbees.utils.RecipeUtils;
@@ -38,27 +40,46 @@ public class CentrifugeRecipe implements IRecipe<IInventory> {
     public static final IRecipeType<CentrifugeRecipe> CENTRIFUGE_RECIPE_TYPE = IRecipeType.register(ResourcefulBees.MOD_ID + ":centrifuge");
     public final ResourceLocation id;
     public final Ingredient ingredient;
+    /** Main, secondary and bottle outputs with their chances. Shared by every centrifuge, so never modify the stacks. */
     public final List<Pair<ItemStack, Float>> itemOutputs;
     public final List<Pair<FluidStack, Float>> fluidOutput;
     public final int time;
     public final int multiblockTime;
     public final boolean multiblock;
     public final boolean hasFluidOutput;
+    public final int inputCount;
 
     public CentrifugeRecipe(ResourceLocation id, Ingredient ingredient, List<Pair<ItemStack, Float>> itemOutputs, List<Pair<FluidStack, Float>> fluidOutput, int time, int multiblockTime, boolean multiblock, boolean hasFluidOutput) {
         this.id = id;
         this.ingredient = ingredient;
-        this.itemOutputs = itemOutputs;
-        this.fluidOutput = fluidOutput;
+        this.itemOutputs = ImmutableList.copyOf(itemOutputs);
+        this.fluidOutput = ImmutableList.copyOf(fluidOutput);
         this.time = time;
         this.multiblockTime = multiblockTime;
         this.multiblock = multiblock;
         this.hasFluidOutput = hasFluidOutput;
+        this.inputCount = getIngredientCount(ingredient);
+    }
+
+    /**
+     * Reads the input count from the ingredient's JSON form once, so it doesn't have to be serialized every time the
+     * centrifuge checks or consumes its input.
+     */
+    private static int getIngredientCount(Ingredient ingredient) {
+        JsonElement json = ingredient.serialize();
+        if (json.isJsonObject()) {
+            JsonElement count = json.getAsJsonObject().get(BeeConstants.INGREDIENT_COUNT);
+            if (count != null) return count.getAsInt();
+        }
+        return 1;
     }
 
     @Override
     public boolean matches(IInventory inventory, @Nonnull World world) {
-        ItemStack stack = inventory.getStackInSlot(0);
+        return matches(inventory.getStackInSlot(0));
+    }
+
+    public boolean matches(ItemStack stack) {
         if (stack == ItemStack.EMPTY) return false;
         else {
             ItemStack[] matchingStacks = ingredient.getMatchingStacks();
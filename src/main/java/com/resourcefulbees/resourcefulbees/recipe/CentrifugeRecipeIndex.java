@@ -0,0 +1,70 @@
+package com.resourcefulbees.resourcefulbees.recipe;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Lookup table from an input item to the centrifuge recipes whose ingredient accepts it.
+ * The table is rebuilt lazily whenever the world's recipe manager changes or the recipes are reloaded,
+ * so a lookup is a single map hit followed by the NBT check in {@link CentrifugeRecipe#matches(ItemStack)}.
+ */
+public class CentrifugeRecipeIndex {
+
+    private static volatile RecipeManager indexedManager;
+    private static volatile Map<Item, List<CentrifugeRecipe>> recipesByItem = Collections.emptyMap();
+
+    private CentrifugeRecipeIndex() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static void invalidate() {
+        indexedManager = null;
+    }
+
+    @Nullable
+    public static CentrifugeRecipe getRecipe(World world, ItemStack input) {
+        if (input.isEmpty()) return null;
+        RecipeManager manager = world.getRecipeManager();
+        if (manager != indexedManager) {
+            buildIndex(manager);
+        }
+        return findRecipe(recipesByItem, input);
+    }
+
+    private static synchronized void buildIndex(RecipeManager manager) {
+        if (manager == indexedManager) return;
+        recipesByItem = indexRecipes(manager.getRecipes(CentrifugeRecipe.CENTRIFUGE_RECIPE_TYPE).values());
+        indexedManager = manager;
+    }
+
+    static Map<Item, List<CentrifugeRecipe>> indexRecipes(Collection<? extends IRecipe<?>> recipes) {
+        Map<Item, List<CentrifugeRecipe>> index = new IdentityHashMap<>();
+        recipes.forEach(iRecipe -> {
+            CentrifugeRecipe recipe = (CentrifugeRecipe) iRecipe;
+            for (ItemStack stack : recipe.ingredient.getMatchingStacks()) {
+                List<CentrifugeRecipe> candidates = index.computeIfAbsent(stack.getItem(), item -> new ArrayList<>(1));
+                if (candidates.isEmpty() || candidates.get(candidates.size() - 1) != recipe) {
+                    candidates.add(recipe);
+                }
+            }
+        });
+        return index;
+    }
+
+    @Nullable
+    static CentrifugeRecipe findRecipe(Map<Item, List<CentrifugeRecipe>> index, ItemStack input) {
+        List<CentrifugeRecipe> candidates = index.get(input.getItem());
+        if (candidates != null) {
+            for (CentrifugeRecipe recipe : candidates) {
+                if (recipe.matches(input)) return recipe;
+            }
+        }
+        return null;
+    }
+}
@@ -9,6 +9,7 @@ import com.resourcefulbees.resourcefulbees.utils.RandomCollection;
 import com.resourcefulbees.resourcefulbees.utils.validation.FirstPhaseValidator;
 import net.minecraft.entity.EntityType;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.fml.RegistryObject;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -47,6 +48,10 @@ public class BeeRegistry implements IBeeRegistry {
         this.ALLOW_REGISTRATION = false;
     }
 
+    public boolean isRegistrationAllowed() {
+        return ALLOW_REGISTRATION;
+    }
+
     /**
      * Returns a BeeData object for the given bee type.
      *
@@ -167,4 +172,8 @@ public class BeeRegistry implements IBeeRegistry {
     public void registerMutations() {
         getBees().forEach((s, b) -> b.getMutationData().initMutations(b));
     }
+
+    public static void onTagsUpdated(TagsUpdatedEvent.VanillaTagTypes event) {
+        getRegistry().getBees().forEach((s, b) -> b.getMutationData().resolveTagMutations());
+    }
 }
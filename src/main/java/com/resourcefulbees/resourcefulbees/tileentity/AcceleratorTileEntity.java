@@ -10,6 +10,8 @@ import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
 
 public class AcceleratorTileEntity extends TileEntity implements ITickableTileEntity {
+    public static final int ACCELERATED_TICKS = 384;
+
     public AcceleratorTileEntity() {
         super(ModTileEntityTypes.ACCELERATOR_TILE_ENTITY.get());
     }
@@ -35,9 +37,13 @@ public class AcceleratorTileEntity extends TileEntity implements ITickableTileEn
         }
         if (block.hasTileEntity(blockState)) {
             TileEntity tileEntity = world.getTileEntity(pos);
-            if (tileEntity != null && !tileEntity.isRemoved() && tileEntity instanceof ITickableTileEntity && !(tileEntity instanceof AcceleratorTileEntity)) {
-                for (int i = 0; i < 384; i++) {
-                    ((ITickableTileEntity) tileEntity).tick();
+            if (tileEntity != null && !tileEntity.isRemoved() && !(tileEntity instanceof AcceleratorTileEntity)) {
+                if (tileEntity instanceof IAcceleratable) {
+                    ((IAcceleratable) tileEntity).advanceTicks(ACCELERATED_TICKS);
+                } else if (tileEntity instanceof ITickableTileEntity) {
+                    for (int i = 0; i < ACCELERATED_TICKS; i++) {
+                        ((ITickableTileEntity) tileEntity).tick();
+                    }
                 }
             }
         }
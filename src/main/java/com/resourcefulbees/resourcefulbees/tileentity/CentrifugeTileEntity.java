@@ -1,33 +1,34 @@
 
 package com.resourcefulbees.resourcefulbees.tileentity;
 
-import com.google.gson.JsonElement;
 import com.resourcefulbees.resourcefulbees.block.CentrifugeBlock;
 import com.resourcefulbees.resourcefulbees.capabilities.CustomEnergyStorage;
 import com.resourcefulbees.resourcefulbees.capabilities.MultiFluidTank;
 import com.resourcefulbees.resourcefulbees.config.Config;
 import com.resourcefulbees.resourcefulbees.container.AutomationSensitiveItemStackHandler;
 import com.resourcefulbees.resourcefulbees.container.CentrifugeContainer;
-import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
+import com.resourcefulbees.resourcefulbees.container.ItemSlotIndex;
 import com.resourcefulbees.resourcefulbees.lib.ModConstants;
 import com.resourcefulbees.resourcefulbees.lib.NBTConstants;
 import com.resourcefulbees.resourcefulbees.network.NetPacketHandler;
 import com.resourcefulbees.resourcefulbees.network.packets.SyncGUIMessage;
 import com.resourcefulbees.resourcefulbees.recipe.CentrifugeRecipe;
+import com.resourcefulbees.resourcefulbees.recipe.CentrifugeRecipeIndex;
 import com.resourcefulbees.resourcefulbees.registry.ModContainers;
 import com.resourcefulbees.resourcefulbees.registry.ModFluids;
+import com.resourcefulbees.resourcefulbees.utils.MathUtils;
 import com.resourcefulbees.resourcefulbees.utils.NBTUtils;
 import io.netty.buffer.Unpooled;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.inventory.Inventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.inventory.container.IContainerListener;
 import net.minecraft.inventory.container.INamedContainerProvider;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
@@ -49,17 +50,14 @@ import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
-import net.minecraftforge.items.wrapper.RecipeWrapper;
+import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import static net.minecraft.inventory.container.Container.areItemsAndTagsEqual;
-
-public class CentrifugeTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider {
+public class CentrifugeTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider, IAcceleratable {
 
     public static final int BOTTLE_SLOT = 0;
     public static final int HONEYCOMB_SLOT = 1;
@@ -71,12 +69,14 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
     protected int[] outputSlots;
 
     protected AutomationSensitiveItemStackHandler itemStackHandler;
+    protected ItemSlotIndex outputIndex;
     protected MultiFluidTank fluidTanks;
     protected CustomEnergyStorage energyStorage = createEnergy();
     protected LazyOptional<IItemHandler> lazyOptional = LazyOptional.of(() -> itemStackHandler);
     protected LazyOptional<IEnergyStorage> energyOptional = LazyOptional.of(() -> energyStorage);
     protected LazyOptional<MultiFluidTank> fluidOptional = LazyOptional.of(() -> fluidTanks);
     protected int[] time;
+    protected int[] batchSizes;
     protected List<CentrifugeRecipe> recipes;
     protected ItemStack failedMatch = ItemStack.EMPTY;
     protected boolean dirty;
@@ -84,10 +84,12 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
     protected boolean[] processCompleted;
     protected boolean isPoweredByRedstone;
     protected boolean requiresRedstone;
+    protected RecipeManager sleepingOn;
+    protected final CoalescedBlockState pendingBlockState = new CoalescedBlockState(this);
 
     private final IntArray times = new IntArray(1) {
         @Override
-        public int get(int i) { return time[0]; }
+        public int get(int i) { return getProcessTime(0); }
 
         @Override
         public void set(int i, int i1) { time[0] = i1; }
@@ -97,8 +99,11 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
         super(tileEntityType);
         initializeInputsAndOutputs();
         itemStackHandler = new CentrifugeTileEntity.TileStackHandler(getTotalSlots());
+        outputIndex = new ItemSlotIndex(itemStackHandler, outputSlots[0], getTotalSlots());
         fluidTanks = new MultiFluidTank(getMaxTankCapacity(), getTotalTanks());
         time = new int[getNumberOfInputs()];
+        batchSizes = new int[getNumberOfInputs()];
+        Arrays.fill(batchSizes, 1);
         recipes = Arrays.asList(null, null, null, null, null, null, null, null, null);
         isProcessing = new boolean[getNumberOfInputs()];
         processCompleted = new boolean[getNumberOfInputs()];
@@ -126,90 +131,153 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
     @Override
     public void tick() {
         if (world != null && !world.isRemote()) {
-            if (!requiresRedstone || isPoweredByRedstone) {
-                for (int i = 0; i < honeycombSlots.length; i++) {
-                    recipes.set(i, getRecipe(i));
-                    if (canStartCentrifugeProcess(i)) {
-                        isProcessing[i] = true;
-                        setPoweredBlockState(true);
-                    }
-                    if (isProcessing[i] && !processCompleted[i]) {
-                        processRecipe(i);
+            if (!isSleeping()) {
+                if (!requiresRedstone || isPoweredByRedstone) {
+                    if (!tickProcesses()) sleep();
+                    if (dirty) {
+                        this.dirty = false;
+                        this.markDirty();
                     }
-                    if (processCompleted[i]) {
-                        processCompleted(i);
-                    }
-                }
-                if (dirty) {
-                    this.dirty = false;
-                    this.markDirty();
+                } else {
+                    sleep();
                 }
             }
+            pendingBlockState.flush();
+        }
+    }
+
+    /**
+     * Runs the accelerated ticks but saves and updates the block state only once. Stretches where every running process
+     * just counts up are applied in one step, so only the ticks around a process starting, finishing or stalling are
+     * run one at a time. Stops early once the centrifuge would fall asleep, since nothing can change for the rest of
+     * the game tick after that.
+     */
+    @Override
+    public void advanceTicks(int ticks) {
+        if (world == null || world.isRemote()) return;
+        int remaining = ticks;
+        while (remaining > 0 && !isSleeping()) {
+            if (!requiresRedstone || isPoweredByRedstone) {
+                if (!tickProcesses()) sleep();
+                remaining--;
+                if (!isSleeping()) remaining -= skipTicks(remaining);
+            } else {
+                sleep();
+            }
+        }
+        if (dirty) {
+            this.dirty = false;
+            this.markDirty();
+        }
+        pendingBlockState.flush();
+    }
+
+    /**
+     * Runs one tick of every input's process.
+     *
+     * @return Returns true if any process advanced or finished, false if the centrifuge is stuck until something
+     * about its inventory, energy or redstone changes.
+     */
+    protected boolean tickProcesses() {
+        boolean progressed = false;
+        for (int i = 0; i < honeycombSlots.length; i++) {
+            recipes.set(i, getRecipe(i));
+            if (canStartCentrifugeProcess(i)) {
+                isProcessing[i] = true;
+                batchSizes[i] = getBatchCrafts(i);
+                setPoweredBlockState(true);
+            }
+            if (isProcessing[i] && !processCompleted[i]) {
+                int previousTime = time[i];
+                processRecipe(i);
+                progressed |= time[i] > previousTime;
+            }
+            if (processCompleted[i]) {
+                processCompleted(i);
+                progressed |= !processCompleted[i];
+            }
+        }
+        return progressed;
+    }
+
+    /**
+     * Advances every running process by up to the given number of ticks at once, stopping short of any tick on which a
+     * process would start, finish or stall for lack of energy. Meant to be called right after {@link #tickProcesses},
+     * which leaves a finished batch waiting only if its outputs have no room, and nothing within the same game tick
+     * can make room other than another batch finishing.
+     *
+     * @return Returns the number of ticks skipped, which is 0 if the next tick has to be run on its own.
+     */
+    protected int skipTicks(int ticks) {
+        int skippable = ticks;
+        int running = 0;
+        for (int i = 0; i < honeycombSlots.length && skippable > 0; i++) {
+            if (!isProcessing[i]) {
+                if (canStartCentrifugeProcess(i)) return 0;
+            } else if (!processCompleted[i]) {
+                if (!canProcess(i)) return 0;
+                running++;
+                skippable = Math.min(skippable, getRecipeTime(i) * batchSizes[i] - time[i] - 1);
+            }
+        }
+        int energyPerTick = Config.RF_TICK_CENTRIFUGE.get() * running;
+        if (energyPerTick > 0) skippable = Math.min(skippable, energyStorage.getEnergyStored() / energyPerTick);
+        if (running == 0 || skippable <= 0) return 0;
+
+        for (int i = 0; i < honeycombSlots.length; i++) {
+            if (isProcessing[i] && !processCompleted[i]) time[i] += skippable;
         }
+        energyStorage.consumeEnergy(energyPerTick * skippable);
+        this.dirty = true;
+        return skippable;
+    }
+
+    /**
+     * Stops the centrifuge from ticking until {@link #wakeUp} is called or the recipes are reloaded.
+     */
+    protected void sleep() {
+        if (world != null) sleepingOn = world.getRecipeManager();
+    }
+
+    public void wakeUp() {
+        sleepingOn = null;
+    }
+
+    protected boolean isSleeping() {
+        return sleepingOn != null && world != null && sleepingOn == world.getRecipeManager();
     }
 
     protected void resetProcess(int i) {
         processCompleted[i] = false;
         isProcessing[i] = false;
         time[i] = 0;
+        batchSizes[i] = 1;
         recipes.set(i, null);
         setPoweredBlockState(false);
     }
 
-    //TODO see if this can be shortened and optimized further
+    /**
+     * Finishes the current batch of the given input: consumes the input of every craft that still has room for its
+     * outputs and rolls the outputs of all of them at once.
+     */
     protected void processCompleted(int i) {
-        if (recipes.get(i) != null) {
-            if (inventoryHasSpace(recipes.get(i))) {
-                consumeInput(i);
-                ItemStack glass_bottle = itemStackHandler.getStackInSlot(BOTTLE_SLOT);
-                List<ItemStack> depositStacks = new ArrayList<>();
+        CentrifugeRecipe recipe = recipes.get(i);
+        if (recipe != null) {
+            int crafts = getCraftsWithSpace(i, recipe);
+            if (crafts > 0) {
+                consumeInput(i, crafts);
                 if (world != null) {
-                    for (int j = 0; j < 3; j++) {
-                        float nextFloat = world.rand.nextFloat();
-                        float chance;
-                        switch (j) {
-                            case 0:
-                                if (recipes.get(i).hasFluidOutput) {
-                                    chance = recipes.get(i).fluidOutput.get(0).getRight();
-                                    if (chance >= nextFloat) {
-                                        fluidTanks.fill(i + 1, recipes.get(i).fluidOutput.get(0).getLeft().copy(), MultiFluidTank.FluidAction.EXECUTE);
-                                    }
-                                    depositStacks.add(ItemStack.EMPTY);
-                                } else {
-                                    chance = recipes.get(i).itemOutputs.get(j).getRight();
-                                    if (chance >= nextFloat) {
-                                        depositStacks.add(recipes.get(i).itemOutputs.get(j).getLeft().copy());
-                                    } else {
-                                        depositStacks.add(ItemStack.EMPTY);
-                                    }
-                                }
-                                break;
-                            case 1:
-                                chance = recipes.get(i).itemOutputs.get(j).getRight();
-                                if (chance >= nextFloat) {
-                                    depositStacks.add(recipes.get(i).itemOutputs.get(j).getLeft().copy());
-                                } else {
-                                    depositStacks.add(ItemStack.EMPTY);
-                                }
-                                break;
-                            case 2:
-                                if (glass_bottle.isEmpty() || glass_bottle.getCount() < recipes.get(i).itemOutputs.get(j).getLeft().getCount()) {
-                                    fluidTanks.fill(0, new FluidStack(ModFluids.HONEY_STILL.get(), ModConstants.HONEY_PER_BOTTLE), MultiFluidTank.FluidAction.EXECUTE);
-                                    depositStacks.add(ItemStack.EMPTY);
-                                } else {
-                                    chance = recipes.get(i).itemOutputs.get(j).getRight();
-                                    if (chance >= nextFloat) {
-                                        glass_bottle.shrink(recipes.get(i).itemOutputs.get(j).getLeft().getCount());
-                                        depositStacks.add(recipes.get(i).itemOutputs.get(j).getLeft().copy());
-                                    } else {
-                                        depositStacks.add(ItemStack.EMPTY);
-                                    }
-                                }
+                    if (recipe.hasFluidOutput) {
+                        Pair<FluidStack, Float> fluidOutput = recipe.fluidOutput.get(0);
+                        int successes = MathUtils.nextBinomial(world.rand, crafts, fluidOutput.getRight());
+                        if (successes > 0) {
+                            fluidTanks.fill(i + 1, new FluidStack(fluidOutput.getLeft(), fluidOutput.getLeft().getAmount() * successes), MultiFluidTank.FluidAction.EXECUTE);
                         }
+                    } else {
+                        depositOutput(recipe.itemOutputs.get(0), crafts);
                     }
-                    if (!depositStacks.isEmpty()) {
-                        depositItemStacks(depositStacks);
-                    }
+                    depositOutput(recipe.itemOutputs.get(1), crafts);
+                    depositBottleOutput(recipe.itemOutputs.get(2), crafts);
                 }
                 resetProcess(i);
             }
@@ -218,32 +286,102 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
         }
     }
 
+    private void depositOutput(Pair<ItemStack, Float> output, int crafts) {
+        if (world != null && !output.getLeft().isEmpty()) {
+            int successes = MathUtils.nextBinomial(world.rand, crafts, output.getRight());
+            if (successes > 0) {
+                ItemStack stack = output.getLeft().copy();
+                stack.setCount(stack.getCount() * successes);
+                depositItemStack(stack);
+            }
+        }
+    }
+
+    /**
+     * Every craft that finds enough glass bottles rolls for the bottle output and uses them up on success, every other
+     * craft fills the honey tank instead. When the bottles can run out partway through the batch the crafts are rolled
+     * one at a time, since which crafts still find a bottle depends on the rolls before them.
+     */
+    private void depositBottleOutput(Pair<ItemStack, Float> output, int crafts) {
+        if (world == null) return;
+        ItemStack glassBottle = itemStackHandler.getStackInSlot(BOTTLE_SLOT);
+        int bottlesPerCraft = output.getLeft().getCount();
+        int bottleCrafts = bottlesPerCraft > 0 ? glassBottle.getCount() / bottlesPerCraft : glassBottle.isEmpty() ? 0 : crafts;
+
+        int rolled;
+        int successes;
+        if (bottleCrafts >= crafts) {
+            rolled = crafts;
+            successes = MathUtils.nextBinomial(world.rand, crafts, output.getRight());
+        } else {
+            rolled = 0;
+            successes = 0;
+            while (rolled < crafts && successes < bottleCrafts) {
+                if (output.getRight() >= world.rand.nextFloat()) successes++;
+                rolled++;
+            }
+        }
+
+        if (successes > 0) {
+            glassBottle.shrink(bottlesPerCraft * successes);
+            ItemStack stack = output.getLeft().copy();
+            stack.setCount(stack.getCount() * successes);
+            depositItemStack(stack);
+        }
+        if (rolled < crafts) {
+            fluidTanks.fill(0, new FluidStack(ModFluids.HONEY_STILL.get(), ModConstants.HONEY_PER_BOTTLE * (crafts - rolled)), MultiFluidTank.FluidAction.EXECUTE);
+        }
+    }
+
+    protected void depositItemStack(ItemStack itemStack) {
+        outputIndex.deposit(itemStack, getTotalSlots());
+    }
+
     protected void processRecipe(int i) {
         if (canProcess(i)) {
             energyStorage.consumeEnergy(Config.RF_TICK_CENTRIFUGE.get());
             ++time[i];
-            processCompleted[i] = time[i] >= getRecipeTime(i);
+            processCompleted[i] = time[i] >= getRecipeTime(i) * batchSizes[i];
             this.dirty = true;
         } else {
             resetProcess(i);
         }
     }
 
-    protected void consumeInput(int i) {
+    protected void consumeInput(int i, int crafts) {
         ItemStack combInput = itemStackHandler.getStackInSlot(honeycombSlots[i]);
-        JsonElement count = recipes.get(i).ingredient.serialize().getAsJsonObject().get(BeeConstants.INGREDIENT_COUNT);
-        int inputAmount = count != null ? count.getAsInt() : 1;
-        combInput.shrink(inputAmount);
+        combInput.shrink(recipes.get(i).inputCount * crafts);
+    }
+
+    /**
+     * Returns how many crafts of the current recipe the input slot holds enough for, up to {@link #getBatchSize}.
+     */
+    protected int getBatchCrafts(int i) {
+        int available = itemStackHandler.getStackInSlot(honeycombSlots[i]).getCount() / Math.max(recipes.get(i).inputCount, 1);
+        return MathUtils.clamp(available, 1, getBatchSize());
     }
 
+    /**
+     * Returns how many crafts of the finished batch can be completed: no more than the input still holds and no more
+     * than the outputs have room for. A batch always completes at least one craft if there is room for it.
+     */
+    protected int getCraftsWithSpace(int i, CentrifugeRecipe recipe) {
+        int available = itemStackHandler.getStackInSlot(honeycombSlots[i]).getCount() / Math.max(recipe.inputCount, 1);
+        int crafts = MathUtils.clamp(available, 1, batchSizes[i]);
+        while (crafts > 0 && !inventoryHasSpace(recipe, crafts)) {
+            crafts--;
+        }
+        return crafts;
+    }
+
+    //Override this for subclasses
+    public int getBatchSize() { return 1; }
+
     protected boolean canStartCentrifugeProcess(int i) {
         if (!isProcessing[i] && !itemStackHandler.getStackInSlot(honeycombSlots[i]).isEmpty()) {
             if (canProcessRecipe(i)) {
                 ItemStack combInput = itemStackHandler.getStackInSlot(honeycombSlots[i]);
-                JsonElement count = recipes.get(i).ingredient.serialize().getAsJsonObject().get(BeeConstants.INGREDIENT_COUNT);
-                int inputAmount = count != null ? count.getAsInt() : 1;
-
-                return combInput.getCount() >= inputAmount ;
+                return combInput.getCount() >= recipes.get(i).inputCount;
             }
         }
         return false;
@@ -262,10 +400,9 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
         ItemStack input = itemStackHandler.getStackInSlot(honeycombSlots[i]);
         if (input.isEmpty() || input == failedMatch) return null;
         if (world != null)
-            if (this.recipes.get(i) != null && this.recipes.get(i).matches(new RecipeWrapper(itemStackHandler), world)) return this.recipes.get(i);
+            if (this.recipes.get(i) != null && this.recipes.get(i).matches(input)) return this.recipes.get(i);
             else {
-                Inventory recipeInv = new Inventory(input);
-                CentrifugeRecipe rec = world.getRecipeManager().getRecipe(CentrifugeRecipe.CENTRIFUGE_RECIPE_TYPE, recipeInv, this.world).orElse(null);
+                CentrifugeRecipe rec = CentrifugeRecipeIndex.getRecipe(world, input);
                 if (rec == null) failedMatch = input;
                 else failedMatch = ItemStack.EMPTY;
                 this.recipes.set(i, rec);
@@ -274,7 +411,10 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
         return null;
     }
 
-    public int getProcessTime(int i) { return time[i]; }
+    /**
+     * Returns the progress of the given input scaled to a single craft, so it can be shown against the recipe time.
+     */
+    public int getProcessTime(int i) { return time[i] / batchSizes[i]; }
 
     public int getTotalSlots() { return 1 + honeycombSlots.length + outputSlots.length;}
 
@@ -288,82 +428,48 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
     public int getRecipeTime(int i) { return getRecipe(i) != null ? Math.max(5, getRecipe(i).time) : Config.GLOBAL_CENTRIFUGE_RECIPE_TIME.get(); }
     //endregion
 
-    protected void depositItemStacks(List<ItemStack> itemStacks) {
-        itemStacks.forEach(itemStack -> {
-            int slotIndex = outputSlots[0];
-            while (!itemStack.isEmpty() && slotIndex < itemStackHandler.getSlots()){
-                ItemStack slotStack = itemStackHandler.getStackInSlot(slotIndex);
-
-                int itemMaxStackSize = itemStack.getMaxStackSize();
-
-                if(slotStack.isEmpty()) {
-                    itemStackHandler.setStackInSlot(slotIndex, itemStack.split(itemMaxStackSize));
-                } else if (areItemsAndTagsEqual(itemStack, slotStack) && slotStack.getCount() != itemMaxStackSize) {
-                    int combinedCount = itemStack.getCount() + slotStack.getCount();
-                    if (combinedCount <= itemMaxStackSize) {
-                        itemStack.setCount(0);
-                        slotStack.setCount(combinedCount);
-                    } else {
-                        itemStack.shrink(itemMaxStackSize - slotStack.getCount());
-                        slotStack.setCount(itemMaxStackSize);
-                    }
-                    itemStackHandler.setStackInSlot(slotIndex, slotStack);
-                }
-
-                ++slotIndex;
-            }
-        });
-    }
-
     protected boolean inventoryHasSpace(CentrifugeRecipe recipe) {
-        int emptySlots = 0;
+        return inventoryHasSpace(recipe, 1);
+    }
 
-        for (int i = outputSlots[0]; i < itemStackHandler.getSlots(); ++i) {
-            if (itemStackHandler.getStackInSlot(i).isEmpty()) {
-                emptySlots++;
-            }
-        }
+    protected boolean inventoryHasSpace(CentrifugeRecipe recipe, int crafts) {
+        if (recipe == null) return true;
+        int emptySlots = outputIndex.countFreeSlots(getTotalSlots());
 
-        boolean hasSpace = true;
-        int i = 0;
-        while (recipe != null && hasSpace && i < recipe.itemOutputs.size()) {
+        for (int i = 0; i < recipe.itemOutputs.size(); i++) {
             ItemStack output = recipe.itemOutputs.get(i).getLeft();
             if (!output.isEmpty() && !(i == 2 && itemStackHandler.getStackInSlot(BOTTLE_SLOT).isEmpty())) {
-                int count = output.getCount();
-                int j = outputSlots[0];
-
-                while (count > 0 && j < itemStackHandler.getSlots()) {
-                    ItemStack slotStack = itemStackHandler.getStackInSlot(j);
-
-                    if (slotStack.isEmpty() && emptySlots != 0) {
-                        count -= Math.min(count, output.getMaxStackSize());
-                        emptySlots--;
-                    } else if (areItemsAndTagsEqual(output, slotStack) && slotStack.getCount() != output.getMaxStackSize()) {
-                        count -= Math.min(count, output.getMaxStackSize() - slotStack.getCount());
-                    }
-
-                    j++;
+                int count = output.getCount() * crafts - outputIndex.getPartialRoom(output, getTotalSlots());
+                if (count > 0) {
+                    emptySlots -= (count + output.getMaxStackSize() - 1) / output.getMaxStackSize();
+                    if (emptySlots < 0) return false;
                 }
-
-                hasSpace = count <= 0;
             }
-            i++;
         }
 
-        return hasSpace;
+        return true;
     }
 
     public void drainFluidInTank(int tank) { fluidTanks.drain(Integer.MAX_VALUE, IFluidHandler.FluidAction.EXECUTE, tank); }
 
-    public void updateRequiresRedstone() { this.requiresRedstone = !requiresRedstone; }
+    public void updateRequiresRedstone() {
+        this.requiresRedstone = !requiresRedstone;
+        wakeUp();
+    }
 
     public boolean getRequiresRedstone() { return requiresRedstone; }
 
-    public void setRequiresRedstone(boolean requiresRedstone) { this.requiresRedstone = requiresRedstone; }
+    public void setRequiresRedstone(boolean requiresRedstone) {
+        this.requiresRedstone = requiresRedstone;
+        wakeUp();
+    }
 
-    public void setIsPoweredByRedstone(boolean isPoweredByRedstone) { this.isPoweredByRedstone = isPoweredByRedstone; }
+    public void setIsPoweredByRedstone(boolean isPoweredByRedstone) {
+        this.isPoweredByRedstone = isPoweredByRedstone;
+        wakeUp();
+    }
 
-    protected void setPoweredBlockState(boolean powered) { if (world != null) world.setBlockState(pos, getBlockState().with(CentrifugeBlock.PROPERTY_ON, powered)); }
+    protected void setPoweredBlockState(boolean powered) { pendingBlockState.set(CentrifugeBlock.PROPERTY_ON, powered); }
 
     //region NBT
     @Nonnull
@@ -376,6 +482,7 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
     protected CompoundNBT saveToNBT(CompoundNBT tag) {
         tag.put(NBTConstants.NBT_INVENTORY, itemStackHandler.serializeNBT());
         tag.putIntArray("time", time);
+        tag.putIntArray("batchSizes", batchSizes);
         tag.put("energy", energyStorage.serializeNBT());
         tag.put(NBTConstants.NBT_TANKS, fluidTanks.writeToNBT());
         tag.put("isProcessing", NBTUtils.writeBooleans(isProcessing));
@@ -388,6 +495,10 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
     protected void loadFromNBT(CompoundNBT tag) {
         itemStackHandler.deserializeNBTWithoutCheckingSize(tag.getCompound(NBTConstants.NBT_INVENTORY));
         time = NBTUtils.getFallbackIntArray("time", tag, getNumberOfInputs());
+        batchSizes = NBTUtils.getFallbackIntArray("batchSizes", tag, getNumberOfInputs());
+        for (int i = 0; i < batchSizes.length; i++) {
+            batchSizes[i] = Math.max(batchSizes[i], 1);
+        }
         energyStorage.deserializeNBT(tag.getCompound("energy"));
         fluidTanks.readFromNBT(tag);
         isProcessing = NBTUtils.loadBooleans(honeycombSlots.length, tag.getCompound("isProcessing"));
@@ -470,7 +581,10 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
     protected CustomEnergyStorage createEnergy() {
         return new CustomEnergyStorage(Config.MAX_CENTRIFUGE_RF.get(), 100, 0) {
             @Override
-            protected void onEnergyChanged() { markDirty(); }
+            protected void onEnergyChanged() {
+                markDirty();
+                wakeUp();
+            }
         };
     }
 
@@ -512,6 +626,14 @@ public class CentrifugeTileEntity extends TileEntity implements ITickableTileEnt
         protected void onContentsChanged(int slot) {
             super.onContentsChanged(slot);
             markDirty();
+            outputIndex.update(slot);
+            wakeUp();
+        }
+
+        @Override
+        protected void onLoad() {
+            super.onLoad();
+            outputIndex.rebuild();
         }
     }
 }
@@ -0,0 +1,56 @@
+package com.resourcefulbees.resourcefulbees.tileentity;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.state.Property;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the block state properties a machine wants to change during a tick and writes them to the world at most
+ * once, when {@link #flush} is called at the end of the tick, and only if the resulting state actually differs from
+ * the one in the world. Flipping a property back and forth within a tick therefore costs no block update at all.
+ * <p>
+ * Only the properties that were set are applied, on top of the state the block has when flushing, so changes made to
+ * other properties in the meantime aren't overwritten. Nothing is written if the block has been replaced.
+ */
+public class CoalescedBlockState {
+
+    private final TileEntity tileEntity;
+    private final Map<Property<?>, Comparable<?>> pending = new LinkedHashMap<>();
+
+    public CoalescedBlockState(TileEntity tileEntity) {
+        this.tileEntity = tileEntity;
+    }
+
+    public <T extends Comparable<T>> void set(Property<T> property, T value) {
+        pending.put(property, value);
+    }
+
+    public void flush() {
+        if (pending.isEmpty()) return;
+        World world = tileEntity.getWorld();
+        if (world != null && !world.isRemote) {
+            BlockState current = world.getBlockState(tileEntity.getPos());
+            if (current.getBlock() != tileEntity.getBlockState().getBlock()) {
+                pending.clear();
+                return;
+            }
+            BlockState state = current;
+            for (Map.Entry<Property<?>, Comparable<?>> entry : pending.entrySet()) {
+                state = with(state, entry.getKey(), entry.getValue());
+            }
+            if (state != current) {
+                world.setBlockState(tileEntity.getPos(), state);
+            }
+        }
+        pending.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> BlockState with(BlockState state, Property<T> property, Comparable<?> value) {
+        return state.with(property, (T) value);
+    }
+}
@@ -5,6 +5,7 @@ import com.resourcefulbees.resourcefulbees.config.Config;
 import com.resourcefulbees.resourcefulbees.container.AutomationSensitiveItemStackHandler;
 import com.resourcefulbees.resourcefulbees.container.EnderBeeconContainer;
 import com.resourcefulbees.resourcefulbees.effects.ModEffects;
+import com.resourcefulbees.resourcefulbees.entity.BeeIndex;
 import com.resourcefulbees.resourcefulbees.entity.passive.CustomBeeEntity;
 import com.resourcefulbees.resourcefulbees.item.CustomHoneyBottleItem;
 import com.resourcefulbees.resourcefulbees.lib.ModConstants;
@@ -15,9 +16,7 @@ import com.resourcefulbees.resourcefulbees.registry.ModFluids;
 import com.resourcefulbees.resourcefulbees.registry.ModItems;
 import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
 import io.netty.buffer.Unpooled;
-import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
 import net.minecraft.entity.passive.BeeEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
@@ -37,7 +36,6 @@ import net.minecraft.potion.EffectInstance;
 import net.minecraft.potion.Effects;
 import net.minecraft.tags.ITag;
 import net.minecraft.tileentity.ITickableTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.*;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -62,7 +60,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
@@ -73,8 +70,7 @@ public class EnderBeeconTileEntity extends HoneyTankTileEntity implements ITicka
     public static ITag<Fluid> honeyFluidTag = BeeInfoUtils.getFluidTag("forge:honey");
     public static ITag<Item> honeyBottleTag = BeeInfoUtils.getItemTag("forge:honey_bottle");
     private List<BeamSegment> beamSegments = Lists.newArrayList();
-    private List<BeamSegment> beams = Lists.newArrayList();
-    private int worldHeight = -1;
+    private int beamTop = Integer.MIN_VALUE;
     private final float[] afloat = {255f, 255f, 255f};
     private boolean updateBeecon = true;
     private boolean beeconActive = false;
@@ -84,6 +80,7 @@ public class EnderBeeconTileEntity extends HoneyTankTileEntity implements ITicka
     private static final int FLUID_PULL_RATE = Config.BEECON_PULL_AMOUNT.get();
     public AutomationSensitiveItemStackHandler h = new EnderBeeconTileEntity.TileStackHandler(2, getAcceptor(), getRemover());
     private final LazyOptional<IItemHandler> lazyOptional = LazyOptional.of(() -> h);
+    private final NeighborCapabilityCache<IFluidHandler> neighborFluid = new NeighborCapabilityCache<>(this, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
     private boolean dirty;
 
     private List<BeeconEffect> effects;
@@ -237,57 +234,17 @@ public class EnderBeeconTileEntity extends HoneyTankTileEntity implements ITicka
 
     @Override
     public void tick() {
-        int i = this.pos.getX();
-        int j = this.pos.getY();
-        int k = this.pos.getZ();
-        BlockPos blockpos;
-        if (this.worldHeight < j) {
-            blockpos = this.pos;
-            this.beams = Lists.newArrayList();
-            this.worldHeight = blockpos.getY() - 1;
-        } else {
-            blockpos = new BlockPos(i, this.worldHeight + 1, k);
-        }
+        assert this.world != null; //will fix later - epic
         if (doEffects()) {
             fluidTank.drain(getDrain(), IFluidHandler.FluidAction.EXECUTE);
         }
 
-        BeamSegment segment = this.beams.isEmpty() ? null : this.beams.get(this.beams.size() - 1);
-        assert this.world != null; //will fix later - epic
-        int l = this.world.getHeight(Heightmap.Type.WORLD_SURFACE, i, k);
-
-        for (int i1 = 0; i1 < 10 && blockpos.getY() <= l; ++i1) {
-            BlockState blockstate = this.world.getBlockState(blockpos);
-            Block block = blockstate.getBlock();
-            if (afloat != null) {
-                if (this.beams.size() <= 1) {
-                    segment = new EnderBeeconTileEntity.BeamSegment(afloat);
-                    this.beams.add(segment);
-                } else if (segment != null) {
-                    if (Arrays.equals(afloat, segment.colors)) {
-                        segment.incrementHeight();
-                    } else {
-                        segment = new EnderBeeconTileEntity.BeamSegment(new float[]{afloat[0], afloat[1], afloat[2]});
-                        this.beams.add(segment);
-                    }
-                }
-            } else {
-                if (segment == null || blockstate.getOpacity(this.world, blockpos) >= 15 && block != Blocks.BEDROCK) {
-                    this.beams.clear();
-                    this.worldHeight = l;
-                    break;
-                }
-                segment.incrementHeight();
-            }
-            blockpos = blockpos.up();
-            ++this.worldHeight;
-        }
-
+        updateBeam();
 
         if (this.world.getGameTime() % 80L == 0L) {
             if (!this.beamSegments.isEmpty() && !fluidTank.isEmpty()) {
                 AxisAlignedBB box = getEffectBox();
-                List<BeeEntity> bees = world.getEntitiesWithinAABB(BeeEntity.class, box);
+                List<BeeEntity> bees = BeeIndex.getBees(world, box);
                 bees.stream().filter(b -> b instanceof CustomBeeEntity).map(b -> (CustomBeeEntity) b).forEach(CustomBeeEntity::setHasDistrupterInRange);
                 this.addEffectsToBees(bees);
                 this.playSound(SoundEvents.BLOCK_BEACON_AMBIENT);
@@ -305,24 +262,40 @@ public class EnderBeeconTileEntity extends HoneyTankTileEntity implements ITicka
             this.markDirty();
         }
 
-        int j1 = fluidTank.getFluidAmount();
-        if (this.worldHeight >= l) {
-            this.worldHeight = -1;
-            boolean flag = j1 > 0;
-            this.beamSegments = this.beams;
-            if (!this.world.isRemote) {
-                if (flag && updateBeecon && !beeconActive) {
-                    this.playSound(SoundEvents.BLOCK_BEACON_ACTIVATE);
-                    beeconActive = true;
-                } else if (!flag && updateBeecon && beeconActive) {
-                    this.playSound(SoundEvents.BLOCK_BEACON_DEACTIVATE);
-                    beeconActive = false;
-                }
-                updateBeecon = false;
+        if (!this.world.isRemote && updateBeecon) {
+            boolean flag = !fluidTank.isEmpty();
+            if (flag && !beeconActive) {
+                this.playSound(SoundEvents.BLOCK_BEACON_ACTIVATE);
+                beeconActive = true;
+            } else if (!flag && beeconActive) {
+                this.playSound(SoundEvents.BLOCK_BEACON_DEACTIVATE);
+                beeconActive = false;
             }
+            updateBeecon = false;
         }
     }
 
+    /**
+     * The beam runs from the beecon up to the highest block in its column, so it only needs rebuilding when the
+     * heightmap says that block moved. Checking that costs a single lookup, rather than walking the column every tick.
+     */
+    private void updateBeam() {
+        assert this.world != null;
+        int top = this.world.getHeight(Heightmap.Type.WORLD_SURFACE, pos.getX(), pos.getZ());
+        if (top == beamTop) return;
+        beamTop = top;
+
+        List<BeamSegment> segments = Lists.newArrayList();
+        int length = top - pos.getY() + 1;
+        if (length >= 1) {
+            segments.add(new BeamSegment(afloat, 1));
+        }
+        if (length >= 2) {
+            segments.add(new BeamSegment(new float[]{afloat[0], afloat[1], afloat[2]}, length - 1));
+        }
+        this.beamSegments = segments;
+    }
+
     private void pullFluid(Fluid i, IFluidHandler handler) {
         int remainingSpace = fluidTank.getSpace();
         FluidStack amountDrained;
@@ -334,12 +307,12 @@ public class EnderBeeconTileEntity extends HoneyTankTileEntity implements ITicka
         fluidTank.fill(amountDrained, IFluidHandler.FluidAction.EXECUTE);
     }
 
+    public void onNeighborChanged(BlockPos neighborPos) {
+        neighborFluid.invalidate(neighborPos);
+    }
+
     private void doPullProcess() {
-        assert world != null; //will fix later - epic
-        TileEntity tileEntity = world.getTileEntity(pos.down());
-        if (tileEntity == null) return;
-        LazyOptional<IFluidHandler> fluidCap = tileEntity.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, Direction.UP);
-        IFluidHandler handler = fluidCap.orElse(null);
+        IFluidHandler handler = neighborFluid.get(Direction.DOWN);
         if (handler != null) {
             int tanks = handler.getTanks();
             for (int i = 0; i < tanks; i++) {
@@ -392,15 +365,11 @@ public class EnderBeeconTileEntity extends HoneyTankTileEntity implements ITicka
 
     public static class BeamSegment {
         private final float[] colors;
-        private int height;
-
-        public BeamSegment(float[] p_i45669_1_) {
-            this.colors = p_i45669_1_;
-            this.height = 1;
-        }
+        private final int height;
 
-        protected void incrementHeight() {
-            ++this.height;
+        public BeamSegment(float[] colors, int height) {
+            this.colors = colors;
+            this.height = height;
         }
 
         /**
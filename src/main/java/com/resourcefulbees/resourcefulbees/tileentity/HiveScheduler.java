@@ -0,0 +1,156 @@
+package com.resourcefulbees.resourcefulbees.tileentity;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.WeakHashMap;
+
+/**
+ * World-level queue of the game times at which a hive has a bee that is due to leave.
+ * Instead of counting up every bee on every tick, hives keep their bee timers as of the last time they looked at them
+ * and ask to be woken up when the next bee is due, so between departures a hive does no per-bee work.
+ * Queued wake-ups are only hints: a hive that was unloaded, stopped ticking or rescheduled in the meantime ignores them.
+ */
+public class HiveScheduler {
+
+    /** How long a bee that was due but couldn't leave, because of the weather or a blocked exit, waits before trying again. */
+    public static final int RETRY_DELAY = 20;
+
+    private static final Map<IWorld, PriorityQueue<WakeUp>> QUEUES = new WeakHashMap<>();
+
+    private HiveScheduler() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote) return;
+        PriorityQueue<WakeUp> queue = QUEUES.get(event.world);
+        if (queue == null) return;
+        long gameTime = event.world.getGameTime();
+        while (!queue.isEmpty() && queue.peek().gameTime <= gameTime) {
+            WakeUp wakeUp = queue.poll();
+            if (event.world.isBlockLoaded(wakeUp.pos)) {
+                TileEntity tileEntity = event.world.getTileEntity(wakeUp.pos);
+                if (tileEntity instanceof ScheduledHive && !tileEntity.isRemoved()) {
+                    ((ScheduledHive) tileEntity).wakeUp(gameTime);
+                }
+            }
+        }
+    }
+
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        QUEUES.remove(event.getWorld());
+    }
+
+    private static void schedule(World world, BlockPos pos, long gameTime) {
+        QUEUES.computeIfAbsent(world, w -> new PriorityQueue<>()).add(new WakeUp(gameTime, pos.toImmutable()));
+    }
+
+    public interface ScheduledHive {
+        /**
+         * Called at the end of the world tick once the game time the hive asked for has been reached.
+         */
+        void wakeUp(long gameTime);
+    }
+
+    /**
+     * Keeps the bookkeeping a hive needs to use the scheduler: when it last ticked, up to when its bee timers are
+     * current and when it is scheduled to wake up next. Time during which the hive wasn't ticking is never counted
+     * towards its bees, so timers don't drift across chunk unloads.
+     */
+    public static class Clock {
+        private long lastTick = -1;
+        private long lastUpdate = -1;
+        private long scheduledWakeUp = Long.MAX_VALUE;
+
+        /**
+         * Returns how many ticks the hive missed between its last tick and the current one.
+         * Call before {@link #tick}.
+         */
+        public long getMissedTicks(long gameTime) {
+            return lastTick < 0 ? 0 : Math.max(gameTime - lastTick - 1, 0);
+        }
+
+        public void tick(long gameTime) {
+            lastTick = gameTime;
+        }
+
+        public long getLastTick() {
+            return lastTick;
+        }
+
+        public void setLastTick(long lastTick) {
+            this.lastTick = lastTick;
+        }
+
+        public boolean isTicking(long gameTime) {
+            return gameTime - lastTick <= 1;
+        }
+
+        /**
+         * Returns the number of ticks that should be added to the bee timers to bring them up to the given game time
+         * and marks them as current.
+         */
+        public int elapse(long gameTime) {
+            long elapsed = lastUpdate < 0 ? 0 : Math.min(gameTime, lastTick + 1) - lastUpdate;
+            lastUpdate = gameTime;
+            return (int) Math.min(Math.max(elapsed, 0), Integer.MAX_VALUE);
+        }
+
+        /**
+         * Returns whether a wake-up is pending. A wake-up stays pending until it is delivered through
+         * {@link #consumeWakeUp}, including on the tick it is due.
+         */
+        public boolean isScheduled() {
+            return scheduledWakeUp != Long.MAX_VALUE;
+        }
+
+        /**
+         * Returns whether the pending wake-up came due without being delivered, which happens when the hive wasn't
+         * ticking at the time. A stale wake-up will never arrive and has to be replaced.
+         */
+        public boolean isStale(long gameTime) {
+            return isScheduled() && scheduledWakeUp < gameTime;
+        }
+
+        /**
+         * Asks to be woken at the given game time unless an earlier wake-up is already pending.
+         */
+        public void schedule(World world, BlockPos pos, long gameTime, long wakeUpTime) {
+            if (!isScheduled() || isStale(gameTime) || wakeUpTime < scheduledWakeUp) {
+                scheduledWakeUp = wakeUpTime;
+                HiveScheduler.schedule(world, pos, wakeUpTime);
+            }
+        }
+
+        /**
+         * Returns whether a wake-up at the given game time is the one the hive is waiting for and clears it if so.
+         */
+        public boolean consumeWakeUp(long gameTime) {
+            if (gameTime < scheduledWakeUp || !isTicking(gameTime)) return false;
+            scheduledWakeUp = Long.MAX_VALUE;
+            return true;
+        }
+    }
+
+    private static class WakeUp implements Comparable<WakeUp> {
+        private final long gameTime;
+        private final BlockPos pos;
+
+        private WakeUp(long gameTime, BlockPos pos) {
+            this.gameTime = gameTime;
+            this.pos = pos;
+        }
+
+        @Override
+        public int compareTo(WakeUp other) {
+            return Long.compare(gameTime, other.gameTime);
+        }
+    }
+}
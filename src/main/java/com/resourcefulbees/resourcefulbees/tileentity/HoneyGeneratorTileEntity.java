@@ -35,6 +35,7 @@ import net.minecraft.tags.ITag;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraftforge.common.capabilities.Capability;
@@ -52,10 +53,9 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
-public class HoneyGeneratorTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider {
+public class HoneyGeneratorTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider, IAcceleratable {
 
     public static final int HONEY_BOTTLE_INPUT = 0;
     public static final int BOTTLE_OUTPUT = 1;
@@ -65,6 +65,7 @@ public class HoneyGeneratorTileEntity extends TileEntity implements ITickableTil
     public static final int ENERGY_TRANSFER_AMOUNT = Config.ENERGY_TRANSFER_AMOUNT.get();
     public static final int MAX_ENERGY_CAPACITY = Config.MAX_ENERGY_CAPACITY.get();
     public static final int MAX_TANK_STORAGE = Config.MAX_TANK_STORAGE.get();
+    private static final Direction[] DIRECTIONS = Direction.values();
 
     private static Predicate<FluidStack> honeyFluidPredicate() {
         return fluidStack -> fluidStack.getFluid().isIn(BeeInfoUtils.getFluidTag("forge:honey"));
@@ -73,9 +74,11 @@ public class HoneyGeneratorTileEntity extends TileEntity implements ITickableTil
     public HoneyGeneratorTileEntity.TileStackHandler h = new HoneyGeneratorTileEntity.TileStackHandler(5, getAcceptor(), getRemover());
     public final InternalFluidTank fluidTank = new InternalFluidTank(MAX_TANK_STORAGE, honeyFluidPredicate());
     public final CustomEnergyStorage energyStorage = createEnergy();
+    private final CoalescedBlockState pendingBlockState = new CoalescedBlockState(this);
     private final LazyOptional<IFluidHandler> fluidOptional = LazyOptional.of(() -> fluidTank);
     private final LazyOptional<IItemHandler> lazyOptional = LazyOptional.of(() -> h);
     private final LazyOptional<IEnergyStorage> energyOptional = LazyOptional.of(() -> energyStorage);
+    private final NeighborCapabilityCache<IEnergyStorage> neighborEnergy = new NeighborCapabilityCache<>(this, CapabilityEnergy.ENERGY);
 
     public static ITag<Fluid> honeyFluidTag = BeeInfoUtils.getFluidTag("forge:honey");
     public static ITag<Item> honeyBottleTag = BeeInfoUtils.getItemTag("forge:honey_bottle");
@@ -92,48 +95,79 @@ public class HoneyGeneratorTileEntity extends TileEntity implements ITickableTil
     @Override
     public void tick() {
         if (world != null && !world.isRemote) {
-            if (canStartFluidProcess()) {
-                processFluid();
-            }
-            if (!fluidTank.isEmpty() && this.canProcessEnergy()) {
-                this.processEnergy();
-            }
-            if (!isProcessing && !this.canProcessEnergy()) {
-                world.setBlockState(pos, getBlockState().with(HoneyGenerator.PROPERTY_ON, false));
-            }
+            generate();
             if (dirty) {
                 this.dirty = false;
                 this.markDirty();
             }
+            pendingBlockState.flush();
         }
         sendOutPower();
     }
 
-    private void sendOutPower() {
-        AtomicInteger capacity = new AtomicInteger(energyStorage.getEnergyStored());
-        if (capacity.get() > 0) {
-            for (Direction direction : Direction.values()) {
-                if (world != null) {
-                    TileEntity te = world.getTileEntity(pos.offset(direction));
-                    if (te != null) {
-                        boolean doContinue = te.getCapability(CapabilityEnergy.ENERGY, direction).map(handler -> {
-                            if (handler.canReceive()) {
-                                int received = handler.receiveEnergy(Math.min(capacity.get(), ENERGY_TRANSFER_AMOUNT), false);
-                                capacity.addAndGet(-received);
-                                energyStorage.consumeEnergy(received);
-                                markDirty();
-                                return capacity.get() > 0;
-                            } else {
-                                return true;
-                            }
-                        }).orElse(true);
-                        if (!doContinue) {
-                            return;
-                        }
-                    }
+    /**
+     * Runs the generator and pushes out power once per accelerated tick, saving and updating the block state only
+     * once. Stops early once a tick neither generates nor sends anything, as the rest would do nothing either.
+     */
+    @Override
+    public void advanceTicks(int ticks) {
+        if (world == null || world.isRemote) return;
+        for (int i = 0; i < ticks; i++) {
+            boolean generated = generate();
+            boolean sent = sendOutPower();
+            if (!generated && !sent) break;
+        }
+        if (dirty) {
+            this.dirty = false;
+            this.markDirty();
+        }
+        pendingBlockState.flush();
+    }
+
+    /**
+     * @return Returns true if honey was taken in or turned into energy.
+     */
+    private boolean generate() {
+        boolean generated = false;
+        if (canStartFluidProcess()) {
+            processFluid();
+            generated = true;
+        }
+        if (!fluidTank.isEmpty() && this.canProcessEnergy()) {
+            this.processEnergy();
+            generated = true;
+        }
+        if (!isProcessing && !this.canProcessEnergy()) {
+            pendingBlockState.set(HoneyGenerator.PROPERTY_ON, false);
+        }
+        return generated;
+    }
+
+    /**
+     * @return Returns true if any energy was handed to a neighbor.
+     */
+    private boolean sendOutPower() {
+        int capacity = energyStorage.getEnergyStored();
+        if (capacity <= 0) return false;
+        boolean sent = false;
+        for (Direction direction : DIRECTIONS) {
+            IEnergyStorage handler = neighborEnergy.get(direction);
+            if (handler != null && handler.canReceive()) {
+                int received = handler.receiveEnergy(Math.min(capacity, ENERGY_TRANSFER_AMOUNT), false);
+                if (received > 0) {
+                    capacity -= received;
+                    energyStorage.consumeEnergy(received);
+                    this.dirty = true;
+                    sent = true;
+                    if (capacity <= 0) break;
                 }
             }
         }
+        return sent;
+    }
+
+    public void onNeighborChanged(BlockPos neighborPos) {
+        neighborEnergy.invalidate(neighborPos);
     }
 
     private boolean canStartFluidProcess() {
@@ -231,8 +265,7 @@ public class HoneyGeneratorTileEntity extends TileEntity implements ITickableTil
             energyStorage.addEnergy(ENERGY_FILL_AMOUNT);
             energyFilled += ENERGY_FILL_AMOUNT;
             if (energyFilled >= ENERGY_FILL_AMOUNT) energyFilled = 0;
-            assert world != null : "World is null?";
-            world.setBlockState(pos, getBlockState().with(HoneyGenerator.PROPERTY_ON, true));
+            pendingBlockState.set(HoneyGenerator.PROPERTY_ON, true);
             this.dirty = true;
         }
     }
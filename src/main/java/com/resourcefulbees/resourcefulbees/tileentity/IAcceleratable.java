@@ -0,0 +1,15 @@
+package com.resourcefulbees.resourcefulbees.tileentity;
+
+/**
+ * Implemented by tile entities that can fast-forward their own progress when an {@link AcceleratorTileEntity} sits
+ * next to them, instead of having {@code tick()} called once per accelerated tick.
+ */
+public interface IAcceleratable {
+
+    /**
+     * Advances the tile entity by the given number of extra ticks within the current game tick. The result must be
+     * the same as calling {@code tick()} that many times, but block updates, saving and syncing should happen at most
+     * once.
+     */
+    void advanceTicks(int ticks);
+}
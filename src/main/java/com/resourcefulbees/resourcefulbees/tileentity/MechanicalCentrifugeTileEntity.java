@@ -1,11 +1,10 @@
 package com.resourcefulbees.resourcefulbees.tileentity;
 
-import com.google.gson.JsonElement;
 import com.resourcefulbees.resourcefulbees.block.MechanicalCentrifugeBlock;
 import com.resourcefulbees.resourcefulbees.container.AutomationSensitiveItemStackHandler;
 import com.resourcefulbees.resourcefulbees.container.MechanicalCentrifugeContainer;
-import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
 import com.resourcefulbees.resourcefulbees.recipe.CentrifugeRecipe;
+import com.resourcefulbees.resourcefulbees.recipe.CentrifugeRecipeIndex;
 import com.resourcefulbees.resourcefulbees.registry.ModTileEntityTypes;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
@@ -24,16 +23,13 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
-import net.minecraftforge.items.wrapper.RecipeWrapper;
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
-public class MechanicalCentrifugeTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider {
+public class MechanicalCentrifugeTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider, IAcceleratable {
 
     public static final int HONEYCOMB_SLOT = 0;
     public static final int BOTTLE_SLOT = 1;
@@ -41,9 +37,11 @@ public class MechanicalCentrifugeTileEntity extends TileEntity implements ITicka
     public static final int HONEY_BOTTLE = 2;
     public static final int OUTPUT1 = 3;
     public static final int OUTPUT2 = 4;
+    private static final int[] OUTPUT_SLOTS = {OUTPUT1, OUTPUT2, HONEY_BOTTLE};
 
     public AutomationSensitiveItemStackHandler h = new MechanicalCentrifugeTileEntity.TileStackHandler(5, getAcceptor(), getRemover());
     private final LazyOptional<IItemHandler> lazyOptional = LazyOptional.of(() -> h);
+    private final CoalescedBlockState pendingBlockState = new CoalescedBlockState(this);
     public LazyOptional<IItemHandler> automationHandler = LazyOptional.of(() -> new AutomationSensitiveItemStackHandler(5, AutomationSensitiveItemStackHandler.ACCEPT_FALSE, AutomationSensitiveItemStackHandler.REMOVE_FALSE));
     public int clicks = 0;
     public CentrifugeRecipe recipe;
@@ -62,54 +60,51 @@ public class MechanicalCentrifugeTileEntity extends TileEntity implements ITicka
             if (!h.getStackInSlot(HONEYCOMB_SLOT).isEmpty() && !h.getStackInSlot(BOTTLE_SLOT).isEmpty()) {
                 if (this.canProcess(irecipe)) {
                     if (this.clicks > 0)
-                        world.setBlockState(pos,getBlockState().with(MechanicalCentrifugeBlock.PROPERTY_ON,true));
+                        pendingBlockState.set(MechanicalCentrifugeBlock.PROPERTY_ON, true);
                     if (this.clicks >= 8) {
                         this.clicks = 0;
                         this.processItem(irecipe);
                         dirty = true;
-                        world.setBlockState(pos,getBlockState().with(MechanicalCentrifugeBlock.PROPERTY_ON,false));
+                        pendingBlockState.set(MechanicalCentrifugeBlock.PROPERTY_ON, false);
                     }
                 }
             } else {
                 clicks = 0;
-                world.setBlockState(pos,getBlockState().with(MechanicalCentrifugeBlock.PROPERTY_ON,false));
+                pendingBlockState.set(MechanicalCentrifugeBlock.PROPERTY_ON, false);
             }
             if (dirty) {
                 this.markDirty();
             }
+            pendingBlockState.flush();
         }
     }
 
+    /**
+     * Progress is driven by clicks rather than time, so a single tick already does everything the extra ticks would.
+     */
+    @Override
+    public void advanceTicks(int ticks) {
+        if (ticks > 0) tick();
+    }
+
     public boolean canProcess(@Nullable CentrifugeRecipe recipe) {
         if (recipe != null && !recipe.multiblock) {
             List<Pair<ItemStack, Float>> outputs = recipe.itemOutputs;
             ItemStack glass_bottle = h.getStackInSlot(BOTTLE_SLOT);
             ItemStack combs = h.getStackInSlot(HONEYCOMB_SLOT);
-            JsonElement count = recipe.ingredient.serialize().getAsJsonObject().get(BeeConstants.INGREDIENT_COUNT);
-            int inputAmount = count !=null ? count.getAsInt() : 1;
-            List<ItemStack> outputSlots = new ArrayList<>(
-                    Arrays.asList(
-                            h.getStackInSlot(OUTPUT1),
-                            h.getStackInSlot(OUTPUT2),
-                            h.getStackInSlot(HONEY_BOTTLE)
-                    )
-            );
             int processScore = 0;
-            if (outputSlots.get(0).isEmpty() && outputSlots.get(1).isEmpty() && outputSlots.get(2).isEmpty() && glass_bottle.getItem() == Items.GLASS_BOTTLE && combs.getCount() >= inputAmount) return true;
+            for (int i = 0; i < 3; i++) {
+                ItemStack slotStack = h.getStackInSlot(OUTPUT_SLOTS[i]);
+                if (slotStack.isEmpty()) processScore++;
+                else if (slotStack.getItem() == outputs.get(i).getLeft().getItem()
+                        && slotStack.getCount() + outputs.get(i).getLeft().getCount() <= slotStack.getMaxStackSize()) processScore++;
+            }
+            if (combs.getCount() >= recipe.inputCount) processScore++;
+            if (processScore == 4 && glass_bottle.getItem() == Items.GLASS_BOTTLE)
+                return true;
             else {
-                for(int i=0;i<3;i++){
-                    if (outputSlots.get(i).isEmpty()) processScore++;
-                    else if (outputSlots.get(i).getItem() == outputs.get(i).getLeft().getItem()
-                            && outputSlots.get(i).getCount() + outputs.get(i).getLeft().getCount() <= outputSlots.get(i).getMaxStackSize())processScore++;
-                }
-                if (combs.getCount() >= inputAmount) processScore++;
-                if (processScore == 4 && glass_bottle.getItem() == Items.GLASS_BOTTLE)
-                    return true;
-                else {
-                    if (world != null)
-                        world.setBlockState(pos,getBlockState().with(MechanicalCentrifugeBlock.PROPERTY_ON,false));
-                    return false;
-                }
+                pendingBlockState.set(MechanicalCentrifugeBlock.PROPERTY_ON, false);
+                return false;
             }
         }
         return false;
@@ -117,30 +112,22 @@ public class MechanicalCentrifugeTileEntity extends TileEntity implements ITicka
 
     private void processItem(@Nullable CentrifugeRecipe recipe) {
         if (recipe != null && this.canProcess(recipe)) {
-            JsonElement count = recipe.ingredient.serialize().getAsJsonObject().get(BeeConstants.INGREDIENT_COUNT);
-            int inputAmount = count !=null ? count.getAsInt() : 1;
             ItemStack comb = h.getStackInSlot(HONEYCOMB_SLOT);
             ItemStack glass_bottle = h.getStackInSlot(BOTTLE_SLOT);
-            List<Pair<ItemStack, Integer>> slots = new ArrayList<>(
-                    Arrays.asList(
-                            Pair.of(h.getStackInSlot(OUTPUT1),OUTPUT1),
-                            Pair.of(h.getStackInSlot(OUTPUT2),OUTPUT2),
-                            Pair.of(h.getStackInSlot(HONEY_BOTTLE),HONEY_BOTTLE)
-                    )
-            );
             if (world != null)
                 for(int i = 0; i < 3; i++){
                     Pair<ItemStack, Float> output = recipe.itemOutputs.get(i);
                     if (output.getRight() >= world.rand.nextDouble()) {
-                        if (slots.get(i).getLeft().isEmpty()) {
-                            this.h.setStackInSlot(slots.get(i).getRight(), output.getLeft().copy());
-                        } else if (slots.get(i).getLeft().getItem() == output.getLeft().getItem()) {
-                            slots.get(i).getLeft().grow(output.getLeft().getCount());
+                        ItemStack slotStack = h.getStackInSlot(OUTPUT_SLOTS[i]);
+                        if (slotStack.isEmpty()) {
+                            this.h.setStackInSlot(OUTPUT_SLOTS[i], output.getLeft().copy());
+                        } else if (slotStack.getItem() == output.getLeft().getItem()) {
+                            slotStack.grow(output.getLeft().getCount());
                         }
-                        if (slots.get(i).getRight().equals(HONEY_BOTTLE)) glass_bottle.shrink(1);
+                        if (OUTPUT_SLOTS[i] == HONEY_BOTTLE) glass_bottle.shrink(1);
                     }
                 }
-            comb.shrink(inputAmount);
+            comb.shrink(recipe.inputCount);
         }
         clicks = 0;
     }
@@ -149,9 +136,9 @@ public class MechanicalCentrifugeTileEntity extends TileEntity implements ITicka
         ItemStack input = h.getStackInSlot(HONEYCOMB_SLOT);
         if (input.isEmpty() || input == failedMatch) return null;
         if (world != null)
-            if (recipe != null && recipe.matches(new RecipeWrapper(h), world)) return recipe;
+            if (recipe != null && recipe.matches(input)) return recipe;
             else {
-                CentrifugeRecipe rec = world.getRecipeManager().getRecipe(CentrifugeRecipe.CENTRIFUGE_RECIPE_TYPE, new RecipeWrapper(h), this.world).orElse(null);
+                CentrifugeRecipe rec = CentrifugeRecipeIndex.getRecipe(world, input);
                 if (rec == null) failedMatch = input;
                 else failedMatch = ItemStack.EMPTY;
                 return recipe = rec;
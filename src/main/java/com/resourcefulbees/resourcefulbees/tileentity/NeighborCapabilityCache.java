@@ -0,0 +1,110 @@
+package com.resourcefulbees.resourcefulbees.tileentity;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the capability a tile entity's neighbors expose towards it, so machines that push or pull every tick don't
+ * have to look up the neighboring tile entity and query its capability each time.
+ * <p>
+ * A side is resolved the first time it's asked for and stays cached until the neighbor's {@link LazyOptional} is
+ * invalidated or the owning block reports a neighbor change through {@link #invalidate(BlockPos)}. Sides without a
+ * capability are cached as well, so an empty side costs nothing until something is placed next to it.
+ * <p>
+ * A neighbor change only marks the side to be checked again. If the same tile entity is still there with its
+ * capability present, the cached optional is kept, so each optional gets at most one invalidation listener
+ * from this cache.
+ */
+public class NeighborCapabilityCache<T> {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final TileEntity tileEntity;
+    private final Capability<T> capability;
+    @SuppressWarnings("unchecked")
+    private final LazyOptional<T>[] cached = new LazyOptional[DIRECTIONS.length];
+    private final TileEntity[] neighbors = new TileEntity[DIRECTIONS.length];
+    private final boolean[] resolved = new boolean[DIRECTIONS.length];
+
+    public NeighborCapabilityCache(TileEntity tileEntity, Capability<T> capability) {
+        this.tileEntity = tileEntity;
+        this.capability = capability;
+    }
+
+    /**
+     * Returns the capability exposed by the neighbor in the given direction on the side facing the owner, or
+     * {@code null} if there is none.
+     */
+    @Nullable
+    public T get(Direction direction) {
+        int index = direction.getIndex();
+        if (!resolved[index]) {
+            resolve(direction);
+        }
+        LazyOptional<T> optional = cached[index];
+        return optional != null ? optional.orElse(null) : null;
+    }
+
+    /**
+     * Marks the side facing the given neighbor position to be checked again the next time it's asked for, if it is
+     * adjacent.
+     */
+    public void invalidate(BlockPos neighborPos) {
+        BlockPos pos = tileEntity.getPos();
+        for (Direction direction : DIRECTIONS) {
+            if (pos.offset(direction).equals(neighborPos)) {
+                resolved[direction.getIndex()] = false;
+                return;
+            }
+        }
+    }
+
+    public void invalidate(Direction direction) {
+        int index = direction.getIndex();
+        resolved[index] = false;
+        cached[index] = null;
+        neighbors[index] = null;
+    }
+
+    public void invalidateAll() {
+        for (Direction direction : DIRECTIONS) {
+            invalidate(direction);
+        }
+    }
+
+    private void resolve(Direction direction) {
+        int index = direction.getIndex();
+        World world = tileEntity.getWorld();
+        BlockPos neighborPos = tileEntity.getPos().offset(direction);
+        if (world == null || !world.isBlockLoaded(neighborPos)) {
+            invalidate(direction);
+            return;
+        }
+        resolved[index] = true;
+
+        TileEntity neighbor = world.getTileEntity(neighborPos);
+        LazyOptional<T> current = cached[index];
+        if (neighbor == neighbors[index] && current != null && current.isPresent()) return;
+
+        neighbors[index] = neighbor;
+        cached[index] = null;
+        if (neighbor == null) return;
+
+        LazyOptional<T> optional = neighbor.getCapability(capability, direction.getOpposite());
+        if (!optional.isPresent()) return;
+        cached[index] = optional;
+        if (optional != current) {
+            optional.addListener(invalidated -> {
+                if (cached[index] == invalidated) {
+                    invalidate(direction);
+                }
+            });
+        }
+    }
+}
@@ -5,10 +5,10 @@ package com.resourcefulbees.resourcefulbees.tileentity;
 import com.resourcefulbees.resourcefulbees.api.ICustomBee;
 import com.resourcefulbees.resourcefulbees.block.TieredBeehiveBlock;
 import com.resourcefulbees.resourcefulbees.config.Config;
+import com.resourcefulbees.resourcefulbees.entity.BeeIndex;
 import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
 import com.resourcefulbees.resourcefulbees.lib.NBTConstants;
 import com.resourcefulbees.resourcefulbees.registry.ModTileEntityTypes;
-import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
 import com.resourcefulbees.resourcefulbees.utils.MathUtils;
 import net.minecraft.block.BeehiveBlock;
 import net.minecraft.block.Block;
@@ -35,13 +35,14 @@ import net.minecraftforge.common.util.Constants;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Stack;
 
 import static com.resourcefulbees.resourcefulbees.lib.BeeConstants.MIN_HIVE_TIME;
 import static com.resourcefulbees.resourcefulbees.lib.BeeConstants.SMOKE_TIME;
 
-public class TieredBeehiveTileEntity extends BeehiveTileEntity {
+public class TieredBeehiveTileEntity extends BeehiveTileEntity implements HiveScheduler.ScheduledHive, IAcceleratable {
 
     protected int tier;
     protected float tierModifier;
@@ -49,7 +50,7 @@ public class TieredBeehiveTileEntity extends BeehiveTileEntity {
     public Stack<ItemStack> honeycombs = new Stack<>();
     protected boolean isSmoked = false;
     protected int ticksSmoked = 0;
-    protected int ticksSinceBeesFlagged;
+    private final HiveScheduler.Clock clock = new HiveScheduler.Clock();
 
     @Nonnull
     @Override
@@ -145,10 +146,12 @@ public class TieredBeehiveTileEntity extends BeehiveTileEntity {
 
             if (this.world != null && bee instanceof BeeEntity) {
                 int maxTimeInHive = getMaxTimeInHive(bee instanceof ICustomBee ? ((ICustomBee) bee).getBeeData().getMaxTimeInHive() : BeeConstants.MAX_TIME_IN_HIVE);
+                updateBeeTimers();
                 this.bees.add(new BeehiveTileEntity.Bee(nbt, ticksInHive,  hasNectar ? maxTimeInHive : MIN_HIVE_TIME));
                 BlockPos pos = this.getPos();
                 this.world.playSound(null, pos.getX(), pos.getY(), pos.getZ(), SoundEvents.BLOCK_BEEHIVE_ENTER, SoundCategory.BLOCKS, 1.0F, 1.0F);
                 bee.remove();
+                if (!this.world.isRemote) scheduleWakeUp(1);
             }
         }
     }
@@ -163,6 +166,10 @@ public class TieredBeehiveTileEntity extends BeehiveTileEntity {
         return isSmoked || CampfireBlock.isLitCampfireInRange(this.world, this.getPos());
     }
 
+    /**
+     * Replaces the vanilla tick, which counts up every bee every tick, with a wake-up from the {@link HiveScheduler}
+     * whenever the next bee is due to leave.
+     */
     @Override
     public void tick() {
         if (world != null && !world.isRemote) {
@@ -175,13 +182,106 @@ public class TieredBeehiveTileEntity extends BeehiveTileEntity {
                 }
             }
 
-            ticksSinceBeesFlagged++;
-            if (ticksSinceBeesFlagged == 80) {
-                BeeInfoUtils.flagBeesInRange(pos, world);
-                ticksSinceBeesFlagged = 0;
+            long gameTime = world.getGameTime();
+            long missedTicks = clock.getMissedTicks(gameTime);
+            if (missedTicks > 0) updateBeeTimers();
+            clock.tick(gameTime);
+            if ((!clock.isScheduled() || clock.isStale(gameTime)) && !this.bees.isEmpty()) scheduleWakeUp(1);
+
+            if (!this.bees.isEmpty() && this.world.getRandom().nextDouble() < 0.005D) {
+                BlockPos pos = this.getPos();
+                this.world.playSound(null, pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, SoundEvents.BLOCK_BEEHIVE_WORK, SoundCategory.BLOCKS, 1.0F, 1.0F);
             }
         }
-        super.tick();
+    }
+
+    /**
+     * Adds the extra ticks to the smoke timer and every bee's stay at once and asks to be woken up next tick if that
+     * made any of them due.
+     */
+    @Override
+    public void advanceTicks(int ticks) {
+        if (world == null || world.isRemote || ticks <= 0) return;
+        if (isSmoked) {
+            int remaining = MathUtils.inRangeInclusive(ticksSmoked, 0, SMOKE_TIME) ? SMOKE_TIME + 1 - ticksSmoked : 0;
+            if (ticks <= remaining) {
+                ticksSmoked += ticks;
+            } else {
+                isSmoked = false;
+                ticksSmoked = -1;
+            }
+        }
+        if (this.bees.isEmpty()) return;
+        updateBeeTimers();
+        for (BeehiveTileEntity.Bee bee : this.bees) {
+            bee.ticksInHive = (int) Math.min((long) bee.ticksInHive + ticks, Integer.MAX_VALUE - 1);
+        }
+        scheduleWakeUp(1);
+    }
+
+    @Override
+    public void wakeUp(long gameTime) {
+        if (world == null || !clock.consumeWakeUp(gameTime)) return;
+        updateBeeTimers();
+        BlockState state = this.getBlockState();
+        Iterator<BeehiveTileEntity.Bee> iterator = this.bees.iterator();
+        while (iterator.hasNext()) {
+            BeehiveTileEntity.Bee bee = iterator.next();
+            if (bee.ticksInHive > bee.minOccupationTicks) {
+                State beehiveState = bee.entityData.getBoolean("HasNectar") ? State.HONEY_DELIVERED : State.BEE_RELEASED;
+                if (this.releaseBee(state, bee, null, beehiveState)) {
+                    iterator.remove();
+                }
+            }
+        }
+        scheduleWakeUp(HiveScheduler.RETRY_DELAY);
+    }
+
+    /**
+     * Brings the stored bee timers up to the current game time.
+     */
+    private void updateBeeTimers() {
+        if (world == null || world.isRemote) return;
+        int elapsed = clock.elapse(world.getGameTime());
+        if (elapsed > 0) {
+            for (BeehiveTileEntity.Bee bee : this.bees) {
+                bee.ticksInHive = (int) Math.min((long) bee.ticksInHive + elapsed, Integer.MAX_VALUE - 1);
+            }
+        }
+    }
+
+    /**
+     * Schedules a wake-up for when the next bee is due, but no sooner than the given delay.
+     */
+    private void scheduleWakeUp(int minDelay) {
+        if (world == null || this.bees.isEmpty()) return;
+        updateBeeTimers();
+        int nextDue = Integer.MAX_VALUE;
+        for (BeehiveTileEntity.Bee bee : this.bees) {
+            nextDue = Math.min(nextDue, Math.max(bee.minOccupationTicks + 1 - bee.ticksInHive, minDelay));
+        }
+        long gameTime = world.getGameTime();
+        clock.schedule(world, pos, gameTime, gameTime + nextDue);
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (world != null && !world.isRemote) {
+            BeeIndex.addHive(world, pos);
+        }
+    }
+
+    @Override
+    public void remove() {
+        if (world != null) BeeIndex.removeHive(world, pos);
+        super.remove();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        if (world != null) BeeIndex.removeHive(world, pos);
+        super.onChunkUnloaded();
     }
 
     public boolean shouldStayInHive(State beehiveState){
@@ -216,6 +316,7 @@ public class TieredBeehiveTileEntity extends BeehiveTileEntity {
     @Nonnull
     @Override
     public CompoundNBT write(@Nonnull CompoundNBT nbt) {
+        updateBeeTimers();
         super.write(nbt);
         if (!honeycombs.isEmpty()) nbt.put(NBTConstants.NBT_HONEYCOMBS_TE, writeHoneycombs());
         nbt.putBoolean(NBTConstants.NBT_SMOKED_TE, isSmoked);
@@ -0,0 +1,114 @@
+package com.resourcefulbees.resourcefulbees.tileentity.multiblocks;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.world.IWorld;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Keeps track of the block volumes occupied by multiblock structures so they can be told when one
+ * of their blocks changes instead of having to rescan their whole structure on a timer.
+ * Structures are bucketed by chunk so a block change only has to look at the structures touching its chunk.
+ * <p>
+ * Only block changes that notify their neighbors are seen here, so owners should still rescan their structure every
+ * {@link #RECHECK_INTERVAL} ticks to catch blocks that were set or moved without an update.
+ */
+public class MultiBlockTracker {
+
+    public static final int RECHECK_INTERVAL = 400;
+
+    private static final Map<IWorld, Long2ObjectMap<Set<TrackedStructure>>> STRUCTURES = new WeakHashMap<>();
+
+    private MultiBlockTracker() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static TrackedStructure track(IWorld world, BlockPos owner, MutableBoundingBox box, Predicate<BlockPos> filter, Runnable onChange) {
+        MutableBoundingBox bounds = MutableBoundingBox.createProper(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+        TrackedStructure structure = new TrackedStructure(world, owner.toImmutable(), bounds, filter, onChange);
+        Long2ObjectMap<Set<TrackedStructure>> chunks = STRUCTURES.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+        structure.forEachChunk(chunk -> {
+            Set<TrackedStructure> structures = chunks.get(chunk);
+            if (structures == null) {
+                structures = new HashSet<>();
+                chunks.put(chunk, structures);
+            }
+            structures.add(structure);
+        });
+        return structure;
+    }
+
+    public static void untrack(TrackedStructure structure) {
+        Long2ObjectMap<Set<TrackedStructure>> chunks = STRUCTURES.get(structure.world);
+        if (chunks == null) return;
+        structure.forEachChunk(chunk -> {
+            Set<TrackedStructure> structures = chunks.get(chunk);
+            if (structures != null) {
+                structures.remove(structure);
+                if (structures.isEmpty()) chunks.remove(chunk);
+            }
+        });
+    }
+
+    /**
+     * Returns whether the structure owned by the given position is due for its periodic rescan. Owners are spread
+     * over the interval by position so they don't all rescan on the same tick.
+     */
+    public static boolean isRecheckDue(long gameTime, BlockPos owner) {
+        return Math.floorMod(gameTime + owner.hashCode(), RECHECK_INTERVAL) == 0;
+    }
+
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getWorld().isRemote()) return;
+        Long2ObjectMap<Set<TrackedStructure>> chunks = STRUCTURES.get(event.getWorld());
+        if (chunks == null) return;
+        BlockPos pos = event.getPos();
+        Set<TrackedStructure> structures = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (structures == null) return;
+        for (TrackedStructure structure : structures) {
+            if (structure.contains(pos)) {
+                structure.onChange.run();
+            }
+        }
+    }
+
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        STRUCTURES.remove(event.getWorld());
+    }
+
+    public static class TrackedStructure {
+        private final IWorld world;
+        private final BlockPos owner;
+        private final MutableBoundingBox box;
+        private final Predicate<BlockPos> filter;
+        private final Runnable onChange;
+
+        private TrackedStructure(IWorld world, BlockPos owner, MutableBoundingBox box, Predicate<BlockPos> filter, Runnable onChange) {
+            this.world = world;
+            this.owner = owner;
+            this.box = box;
+            this.filter = filter;
+            this.onChange = onChange;
+        }
+
+        public boolean contains(BlockPos pos) {
+            return box.isVecInside(pos) && !pos.equals(owner) && filter.test(pos);
+        }
+
+        private void forEachChunk(LongConsumer consumer) {
+            for (int x = box.minX >> 4; x <= box.maxX >> 4; x++) {
+                for (int z = box.minZ >> 4; z <= box.maxZ >> 4; z++) {
+                    consumer.accept(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary;
 
 import com.resourcefulbees.resourcefulbees.ResourcefulBees;
-import com.resourcefulbees.resourcefulbees.api.ICustomBee;
+import com.resourcefulbees.resourcefulbees.api.beedata.CustomBeeData;
 import com.resourcefulbees.resourcefulbees.config.Config;
 import com.resourcefulbees.resourcefulbees.container.ApiaryBreederContainer;
 import com.resourcefulbees.resourcefulbees.container.AutomationSensitiveItemStackHandler;
-import com.resourcefulbees.resourcefulbees.entity.passive.CustomBeeEntity;
 import com.resourcefulbees.resourcefulbees.item.BeeJar;
 import com.resourcefulbees.resourcefulbees.item.UpgradeItem;
 import com.resourcefulbees.resourcefulbees.lib.ApiaryTabs;
@@ -16,12 +15,12 @@ import com.resourcefulbees.resourcefulbees.registry.ModTileEntityTypes;
 import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
 import com.resourcefulbees.resourcefulbees.utils.MathUtils;
 import net.minecraft.block.BlockState;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.inventory.container.INamedContainerProvider;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.NBTUtil;
@@ -44,6 +43,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Arrays;
 
 import static com.resourcefulbees.resourcefulbees.lib.NBTConstants.NBT_BREEDER_COUNT;
 
@@ -64,6 +64,7 @@ public class ApiaryBreederTileEntity extends TileEntity implements ITickableTile
 
     private BlockPos apiaryPos;
     private ApiaryTileEntity apiary;
+    private final BreedCache[] breedCaches = new BreedCache[5];
 
     protected final IIntArray times = new IIntArray() {
         @Override
@@ -169,73 +170,66 @@ public class ApiaryBreederTileEntity extends TileEntity implements ITickableTile
     }
 
     protected boolean canProcess(int slot) {
-        ItemStack p1Stack = h.getStackInSlot(PARENT_1_SLOTS[slot]);
-        ItemStack p2Stack = h.getStackInSlot(PARENT_2_SLOTS[slot]);
-        if (p1Stack.getItem() instanceof BeeJar && p2Stack.getItem() instanceof BeeJar) {
-            BeeJar p1Jar = (BeeJar) p1Stack.getItem();
-            BeeJar p2Jar = (BeeJar) p2Stack.getItem();
-
-            Entity p1Entity = p1Jar.getEntityFromStack(p1Stack, world, true);
-            Entity p2Entity = p2Jar.getEntityFromStack(p2Stack, world, true);
-
-            if (p1Entity instanceof CustomBeeEntity && p2Entity instanceof CustomBeeEntity) {
-                String p1Type = ((CustomBeeEntity) p1Entity).getBeeData().getName();
-                String p2Type = ((CustomBeeEntity) p2Entity).getBeeData().getName();
-
-                boolean canBreed = BeeRegistry.getRegistry().canParentsBreed(p1Type, p2Type);
+        BreedCache cache = getBreedCache(slot);
+        if (cache == null || !cache.canBreed) return false;
 
-                ItemStack f1Stack = h.getStackInSlot(FEED_1_SLOTS[slot]);
-                ItemStack f2Stack = h.getStackInSlot(FEED_2_SLOTS[slot]);
+        ItemStack f1Stack = h.getStackInSlot(FEED_1_SLOTS[slot]);
+        ItemStack f2Stack = h.getStackInSlot(FEED_2_SLOTS[slot]);
 
-                String p1FeedItem = ((CustomBeeEntity) p1Entity).getBeeData().getBreedData().getFeedItem();
-                String p2FeedItem = ((CustomBeeEntity) p2Entity).getBeeData().getBreedData().getFeedItem();
+        return f1Stack.getCount() >= cache.parent1.getBreedData().getFeedAmount() && f2Stack.getCount() >= cache.parent2.getBreedData().getFeedAmount()
+                && cache.isValidFeed1(f1Stack) && cache.isValidFeed2(f2Stack) && !h.getStackInSlot(EMPTY_JAR_SLOTS[slot]).isEmpty();
+    }
 
-                int f1StackCount = h.getStackInSlot(FEED_1_SLOTS[slot]).getCount();
-                int f2StackCount = h.getStackInSlot(FEED_2_SLOTS[slot]).getCount();
+    private void processBreed(int slot) {
+        if (canProcess(slot) && world != null && validateApiaryLink()) {
+            BreedCache cache = breedCaches[slot];
+            TileEntity tile = world.getTileEntity(apiary.storagePos);
+            if (tile instanceof ApiaryStorageTileEntity) {
+                ApiaryStorageTileEntity apiaryStorage = (ApiaryStorageTileEntity) tile;
+                if (apiaryStorage.breedComplete(cache.parent1.getName(), cache.parent2.getName())) {
+                    h.getStackInSlot(EMPTY_JAR_SLOTS[slot]).shrink(1);
+                    h.getStackInSlot(FEED_1_SLOTS[slot]).shrink(cache.parent1.getBreedData().getFeedAmount());
+                    h.getStackInSlot(FEED_2_SLOTS[slot]).shrink(cache.parent2.getBreedData().getFeedAmount());
+                }
+            }
+        }
+        this.time[slot] = 0;
+    }
 
-                int p1FeedAmount = ((CustomBeeEntity) p1Entity).getBeeData().getBreedData().getFeedAmount();
-                int p2FeedAmount = ((CustomBeeEntity) p2Entity).getBeeData().getBreedData().getFeedAmount();
+    /**
+     * Returns the cached parent data for the given breeder, reading it from the jars' NBT if the
+     * parent slots have changed since it was last built.
+     */
+    @Nullable
+    private BreedCache getBreedCache(int slot) {
+        ItemStack p1Stack = h.getStackInSlot(PARENT_1_SLOTS[slot]);
+        ItemStack p2Stack = h.getStackInSlot(PARENT_2_SLOTS[slot]);
+        BreedCache cache = breedCaches[slot];
+        if (cache == null || cache.p1Stack != p1Stack || cache.p2Stack != p2Stack) {
+            CustomBeeData p1Data = getJarBeeData(p1Stack);
+            CustomBeeData p2Data = getJarBeeData(p2Stack);
+            cache = p1Data != null && p2Data != null ? new BreedCache(p1Stack, p2Stack, p1Data, p2Data) : null;
+            breedCaches[slot] = cache;
+        }
+        return cache;
+    }
 
-                return (canBreed && BeeInfoUtils.isValidBreedItem(f1Stack, p1FeedItem) && BeeInfoUtils.isValidBreedItem(f2Stack, p2FeedItem)
-                        && f1StackCount >= p1FeedAmount && f2StackCount >= p2FeedAmount && !h.getStackInSlot(EMPTY_JAR_SLOTS[slot]).isEmpty());
-            }
+    @Nullable
+    private static CustomBeeData getJarBeeData(ItemStack stack) {
+        CompoundNBT tag = stack.getTag();
+        if (stack.getItem() instanceof BeeJar && tag != null && tag.contains(NBTConstants.NBT_BEE_TYPE)) {
+            return BeeRegistry.getRegistry().getBeeData(tag.getString(NBTConstants.NBT_BEE_TYPE));
         }
-        return false;
+        return null;
     }
 
-    private void processBreed(int slot) {
-        if (canProcess(slot)) {
-            ItemStack p1Stack = h.getStackInSlot(PARENT_1_SLOTS[slot]);
-            ItemStack p2Stack = h.getStackInSlot(PARENT_2_SLOTS[slot]);
-            if (p1Stack.getItem() instanceof BeeJar && p2Stack.getItem() instanceof BeeJar) {
-                BeeJar p1Jar = (BeeJar) p1Stack.getItem();
-                BeeJar p2Jar = (BeeJar) p2Stack.getItem();
-
-                Entity p1Entity = p1Jar.getEntityFromStack(p1Stack, world, true);
-                Entity p2Entity = p2Jar.getEntityFromStack(p2Stack, world, true);
-
-                if (p1Entity instanceof ICustomBee && p2Entity instanceof ICustomBee) {
-                    ICustomBee bee1 = (ICustomBee) p1Entity;
-                    ICustomBee bee2 = (ICustomBee) p2Entity;
-
-                    String p1Type = bee1.getBeeData().getName();
-                    String p2Type = bee2.getBeeData().getName();
-
-                    if (world != null && validateApiaryLink()) {
-                        TileEntity tile = world.getTileEntity(apiary.storagePos);
-                        if (tile instanceof ApiaryStorageTileEntity) {
-                            ApiaryStorageTileEntity apiaryStorage = (ApiaryStorageTileEntity) tile;
-                            if (apiaryStorage.breedComplete(p1Type, p2Type)) {
-                                h.getStackInSlot(EMPTY_JAR_SLOTS[slot]).shrink(1);
-                                h.getStackInSlot(FEED_1_SLOTS[slot]).shrink(bee1.getBeeData().getBreedData().getFeedAmount());
-                                h.getStackInSlot(FEED_2_SLOTS[slot]).shrink(bee2.getBeeData().getBreedData().getFeedAmount());
-                            }
-                        }
-                    }
-                }
+    private void invalidateBreedCache(int slot) {
+        for (int i = 0; i < breedCaches.length; i++) {
+            if (slot == PARENT_1_SLOTS[i] || slot == PARENT_2_SLOTS[i] || slot == FEED_1_SLOTS[i] || slot == FEED_2_SLOTS[i] || slot == EMPTY_JAR_SLOTS[i]) {
+                breedCaches[i] = null;
+                return;
             }
         }
-        this.time[slot] = 0;
     }
 
     private void rebuildOpenContainers() {
@@ -309,6 +303,7 @@ public class ApiaryBreederTileEntity extends TileEntity implements ITickableTile
     public void loadFromNBT(CompoundNBT nbt) {
         CompoundNBT invTag = nbt.getCompound(NBTConstants.NBT_INVENTORY);
         h.deserializeNBT(invTag);
+        Arrays.fill(breedCaches, null);
         time = nbt.getIntArray("time");
         totalTime = nbt.getInt("totalTime");
         if (nbt.contains(NBTConstants.NBT_APIARY_POS))
@@ -424,6 +419,7 @@ public class ApiaryBreederTileEntity extends TileEntity implements ITickableTile
         protected void onContentsChanged(int slot) {
             super.onContentsChanged(slot);
             markDirty();
+            invalidateBreedCache(slot);
 
             for (int i = 0; i < 4; i++) {
                 if (slot == UPGRADE_SLOTS[i]) {
@@ -515,4 +511,44 @@ public class ApiaryBreederTileEntity extends TileEntity implements ITickableTile
             return slot <= maxSlots;
         }
     }
+
+    /**
+     * Breed-relevant data for the two parents of a breeder, so that jars don't need to be turned
+     * back into entities every tick. Feed validity is remembered per item.
+     */
+    private static class BreedCache {
+        private final ItemStack p1Stack;
+        private final ItemStack p2Stack;
+        private final CustomBeeData parent1;
+        private final CustomBeeData parent2;
+        private final boolean canBreed;
+        private Item feed1Item;
+        private Item feed2Item;
+        private boolean feed1Valid;
+        private boolean feed2Valid;
+
+        private BreedCache(ItemStack p1Stack, ItemStack p2Stack, CustomBeeData parent1, CustomBeeData parent2) {
+            this.p1Stack = p1Stack;
+            this.p2Stack = p2Stack;
+            this.parent1 = parent1;
+            this.parent2 = parent2;
+            this.canBreed = BeeRegistry.getRegistry().canParentsBreed(parent1.getName(), parent2.getName());
+        }
+
+        private boolean isValidFeed1(ItemStack stack) {
+            if (stack.getItem() != feed1Item) {
+                feed1Item = stack.getItem();
+                feed1Valid = BeeInfoUtils.isValidBreedItem(stack, parent1.getBreedData().getFeedItem());
+            }
+            return feed1Valid;
+        }
+
+        private boolean isValidFeed2(ItemStack stack) {
+            if (stack.getItem() != feed2Item) {
+                feed2Item = stack.getItem();
+                feed2Valid = BeeInfoUtils.isValidBreedItem(stack, parent2.getBreedData().getFeedItem());
+            }
+            return feed2Valid;
+        }
+    }
 }
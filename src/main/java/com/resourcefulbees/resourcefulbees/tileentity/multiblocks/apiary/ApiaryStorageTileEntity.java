@@ -6,6 +6,7 @@ import com.resourcefulbees.resourcefulbees.api.beedata.CustomBeeData;
 import com.resourcefulbees.resourcefulbees.config.Config;
 import com.resourcefulbees.resourcefulbees.container.ApiaryStorageContainer;
 import com.resourcefulbees.resourcefulbees.container.AutomationSensitiveItemStackHandler;
+import com.resourcefulbees.resourcefulbees.container.ItemSlotIndex;
 import com.resourcefulbees.resourcefulbees.item.BeeJar;
 import com.resourcefulbees.resourcefulbees.item.UpgradeItem;
 import com.resourcefulbees.resourcefulbees.lib.ApiaryOutput;
@@ -49,8 +50,6 @@ import net.minecraftforge.registries.ForgeRegistries;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import static net.minecraft.inventory.container.Container.areItemsAndTagsEqual;
-
 public class ApiaryStorageTileEntity extends TileEntity implements INamedContainerProvider, ITickableTileEntity, IApiaryMultiblock {
 
     public static final int UPGRADE_SLOT = 0;
@@ -62,6 +61,7 @@ public class ApiaryStorageTileEntity extends TileEntity implements INamedContain
     public int numberOfSlots = 9;
 
     public AutomationSensitiveItemStackHandler h = new ApiaryStorageTileEntity.TileStackHandler(110);
+    private final ItemSlotIndex slotIndex = new ItemSlotIndex(h, 1, 110);
     public LazyOptional<IItemHandler> lazyOptional = LazyOptional.of(() -> h);
 
     public ApiaryStorageTileEntity() {
@@ -194,20 +194,37 @@ public class ApiaryStorageTileEntity extends TileEntity implements INamedContain
     }
 
     public void deliverHoneycomb(BeeEntity entity, int apiaryTier) {
-        String beeType;
-        if (entity instanceof ICustomBee && ((ICustomBee) entity).getBeeData().hasHoneycomb()) {
-            beeType = ((ICustomBee) entity).getBeeType();
-        } else if (!(entity instanceof ICustomBee)) {
-            beeType = BeeConstants.VANILLA_BEE_TYPE;
+        if (entity instanceof ICustomBee) {
+            deliverHoneycomb(((ICustomBee) entity).getBeeType(), apiaryTier);
         } else {
-            return;
+            deliverHoneycomb(BeeConstants.VANILLA_BEE_TYPE, apiaryTier);
         }
+    }
 
-        ItemStack itemstack;
-        ItemStack comb = beeType.equals(BeeConstants.VANILLA_BEE_TYPE) ? new ItemStack(Items.HONEYCOMB) : ((ICustomBee) entity).getBeeData().getCombStack();
-        ItemStack combBlock = beeType.equals(BeeConstants.VANILLA_BEE_TYPE) ? new ItemStack(Items.HONEYCOMB_BLOCK) : ((ICustomBee) entity).getBeeData().getCombBlockItemStack();
-        int[] outputAmounts = beeType.equals(BeeConstants.VANILLA_BEE_TYPE) ? null : BEE_REGISTRY.getBeeData(beeType).getApiaryOutputAmounts();
+    public void deliverHoneycomb(String beeType, int apiaryTier) {
+        deliverHoneycomb(beeType, apiaryTier, 1);
+    }
 
+    /**
+     * Deposits the honeycomb from the given number of trips at once, as far as the storage has room for it.
+     */
+    public void deliverHoneycomb(String beeType, int apiaryTier, int deliveries) {
+        ItemStack comb;
+        ItemStack combBlock;
+        int[] outputAmounts;
+        if (beeType.equals(BeeConstants.VANILLA_BEE_TYPE)) {
+            comb = new ItemStack(Items.HONEYCOMB);
+            combBlock = new ItemStack(Items.HONEYCOMB_BLOCK);
+            outputAmounts = null;
+        } else {
+            CustomBeeData beeData = BEE_REGISTRY.getBeeData(beeType);
+            if (beeData == null || !beeData.hasHoneycomb()) return;
+            comb = beeData.getCombStack();
+            combBlock = beeData.getCombBlockItemStack();
+            outputAmounts = beeData.getApiaryOutputAmounts();
+        }
+
+        ItemStack itemstack;
         switch (apiaryTier) {
             case 8:
                 itemstack = (Config.T4_APIARY_OUTPUT.get() == ApiaryOutput.BLOCK) ? combBlock.copy() : comb.copy();
@@ -226,6 +243,7 @@ public class ApiaryStorageTileEntity extends TileEntity implements INamedContain
                 itemstack.setCount(outputAmounts != null && outputAmounts[0] != -1 ? outputAmounts[0] : Config.T1_APIARY_QUANTITY.get());
                 break;
         }
+        itemstack.setCount((int) Math.min(Integer.MAX_VALUE, (long) itemstack.getCount() * deliveries));
         depositItemStack(itemstack);
     }
 
@@ -259,51 +277,11 @@ public class ApiaryStorageTileEntity extends TileEntity implements INamedContain
     }
 
     public boolean inventoryHasSpace() {
-        for (int i = 1; i <= numberOfSlots; ++i) {
-            if (h.getStackInSlot(i).isEmpty()) {
-                return true;
-            }
-        }
-        return false;
+        return slotIndex.hasFreeSlot(numberOfSlots + 1);
     }
 
     public boolean depositItemStack(ItemStack itemstack) {
-        int slotIndex = 1;
-        while (!itemstack.isEmpty()) {
-            if (slotIndex > numberOfSlots) {
-                break;
-            }
-            ItemStack slotStack = h.getStackInSlot(slotIndex);
-
-            int maxStackSize = h.getSlotLimit(slotIndex);
-
-            if (slotStack.isEmpty()) {
-                int count = itemstack.getCount();
-                slotStack = itemstack.copy();
-                if (count > maxStackSize) {
-                    slotStack.setCount(maxStackSize);
-                    itemstack.setCount(count - maxStackSize);
-                } else {
-                    itemstack.setCount(0);
-                }
-                h.setStackInSlot(slotIndex, slotStack);
-            } else if (areItemsAndTagsEqual(itemstack, slotStack)) {
-                int j = itemstack.getCount() + slotStack.getCount();
-                if (j <= maxStackSize) {
-                    itemstack.setCount(0);
-                    slotStack.setCount(j);
-                    h.setStackInSlot(slotIndex, slotStack);
-                } else if (slotStack.getCount() < maxStackSize) {
-                    itemstack.shrink(maxStackSize - slotStack.getCount());
-                    slotStack.setCount(maxStackSize);
-                    h.setStackInSlot(slotIndex, slotStack);
-                }
-            }
-
-            ++slotIndex;
-        }
-
-        return itemstack.isEmpty();
+        return slotIndex.deposit(itemstack, numberOfSlots + 1);
     }
 
     public void rebuildOpenContainers() {
@@ -385,12 +363,19 @@ public class ApiaryStorageTileEntity extends TileEntity implements INamedContain
         protected void onContentsChanged(int slot) {
             super.onContentsChanged(slot);
             markDirty();
+            slotIndex.update(slot);
             if (slot == 0) {
                 updateNumberOfSlots();
                 rebuildOpenContainers();
             }
         }
 
+        @Override
+        protected void onLoad() {
+            super.onLoad();
+            slotIndex.rebuild();
+        }
+
         @Override
         public int getSlotLimit(int slot) {
             if (slot == UPGRADE_SLOT) {
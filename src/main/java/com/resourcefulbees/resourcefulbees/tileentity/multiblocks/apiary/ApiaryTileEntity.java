@@ -2,6 +2,7 @@ package com.resourcefulbees.resourcefulbees.tileentity.multiblocks.apiary;
 
 
 import com.resourcefulbees.resourcefulbees.api.ICustomBee;
+import com.resourcefulbees.resourcefulbees.api.beedata.CustomBeeData;
 import com.resourcefulbees.resourcefulbees.block.multiblocks.apiary.ApiaryBlock;
 import com.resourcefulbees.resourcefulbees.block.multiblocks.apiary.ApiaryBreederBlock;
 import com.resourcefulbees.resourcefulbees.block.multiblocks.apiary.ApiaryStorageBlock;
@@ -9,17 +10,25 @@ import com.resourcefulbees.resourcefulbees.config.Config;
 import com.resourcefulbees.resourcefulbees.container.AutomationSensitiveItemStackHandler;
 import com.resourcefulbees.resourcefulbees.container.UnvalidatedApiaryContainer;
 import com.resourcefulbees.resourcefulbees.container.ValidatedApiaryContainer;
+import com.resourcefulbees.resourcefulbees.entity.BeeIndex;
 import com.resourcefulbees.resourcefulbees.item.BeeJar;
 import com.resourcefulbees.resourcefulbees.lib.ApiaryTabs;
 import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
 import com.resourcefulbees.resourcefulbees.lib.NBTConstants;
 import com.resourcefulbees.resourcefulbees.network.NetPacketHandler;
+import com.resourcefulbees.resourcefulbees.network.packets.SyncApiaryBeesMessage;
 import com.resourcefulbees.resourcefulbees.network.packets.UpdateClientApiaryMessage;
+import com.resourcefulbees.resourcefulbees.registry.BeeRegistry;
 import com.resourcefulbees.resourcefulbees.registry.ModBlocks;
 import com.resourcefulbees.resourcefulbees.registry.ModItems;
 import com.resourcefulbees.resourcefulbees.registry.ModTileEntityTypes;
+import com.resourcefulbees.resourcefulbees.tileentity.CoalescedBlockState;
+import com.resourcefulbees.resourcefulbees.tileentity.HiveScheduler;
+import com.resourcefulbees.resourcefulbees.tileentity.IAcceleratable;
 import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.MultiBlockHelper;
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.MultiBlockTracker;
 import com.resourcefulbees.resourcefulbees.utils.BeeInfoUtils;
+import com.resourcefulbees.resourcefulbees.utils.FlowerPredicates;
 import net.minecraft.block.BeehiveBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -41,10 +50,10 @@ import net.minecraft.nbt.StringNBT;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvents;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.util.text.ITextComponent;
@@ -66,7 +75,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static com.resourcefulbees.resourcefulbees.lib.BeeConstants.MIN_HIVE_TIME;
 import static com.resourcefulbees.resourcefulbees.lib.BeeConstants.RAINBOW_COLOR;
 
-public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider, IApiaryMultiblock {
+public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity, INamedContainerProvider, IApiaryMultiblock, HiveScheduler.ScheduledHive, IAcceleratable {
     public static final int IMPORT = 0;
     public static final int EXPORT = 2;
     public static final int EMPTY_JAR = 1;
@@ -79,52 +88,113 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
     public LazyOptional<IItemHandler> lazyOptional = LazyOptional.of(() -> h);
     public int horizontalOffset = 0;
     public int verticalOffset = 0;
-    public int numPlayersUsing;
-    private int ticksSinceValidation;
-    private int ticksSinceSync;
+    private final Set<ServerPlayerEntity> playersUsing = new HashSet<>();
+    private final Set<String> addedBees = new LinkedHashSet<>();
+    private final Set<String> changedBees = new LinkedHashSet<>();
+    private final Set<String> removedBees = new LinkedHashSet<>();
+    private int beeRevision;
+    private boolean structureDirty = true;
+    private final HiveScheduler.Clock clock = new HiveScheduler.Clock();
+    private final CoalescedBlockState pendingBlockState = new CoalescedBlockState(this);
+    private MultiBlockTracker.TrackedStructure trackedStructure;
     public BlockPos storagePos;
     public BlockPos breederPos;
     private ApiaryStorageTileEntity apiaryStorage;
     private ApiaryBreederTileEntity apiaryBreeder;
-    protected int ticksSinceBeesFlagged;
 
 
     public ApiaryTileEntity() {
-        super(ModTileEntityTypes.APIARY_TILE_ENTITY.get());
+        this(ModTileEntityTypes.APIARY_TILE_ENTITY.get());
+    }
+
+    ApiaryTileEntity(TileEntityType<?> type) {
+        super(type);
     }
 
     //region PLAYER SYNCING
-    public static int calculatePlayersUsingSync(World world, ApiaryTileEntity apiaryTileEntity, int ticksSinceSync, int posX, int posY, int posZ, int numPlayersUsing) {
-        if (!world.isRemote && numPlayersUsing != 0 && (ticksSinceSync + posX + posY + posZ) % 200 == 0) {
-            numPlayersUsing = calculatePlayersUsing(world, apiaryTileEntity, posX, posY, posZ);
-        }
+    public void addPlayerUsing(ServerPlayerEntity player) {
+        playersUsing.add(player);
+        sendFullSync(player);
+    }
 
-        return numPlayersUsing;
+    public void removePlayerUsing(ServerPlayerEntity player) {
+        playersUsing.remove(player);
     }
 
-    public static int calculatePlayersUsing(World world, ApiaryTileEntity apiaryTileEntity, int posX, int posY, int posZ) {
-        int i = 0;
-        float f = 5.0F;
+    public boolean isPlayerUsing(ServerPlayerEntity player) {
+        return playersUsing.contains(player);
+    }
 
-        for (PlayerEntity playerentity : world.getEntitiesWithinAABB(PlayerEntity.class, new AxisAlignedBB(posX - f, posY - f, posZ - f, (posX + 1) + f, (posY + 1) + f, (posZ + 1) + f))) {
-            if (playerentity.openContainer instanceof ValidatedApiaryContainer) {
-                ApiaryTileEntity apiaryTileEntity1 = ((ValidatedApiaryContainer) playerentity.openContainer).apiaryTileEntity;
-                if (apiaryTileEntity1 == apiaryTileEntity) {
-                    ++i;
-                }
-            }
+    public void sendFullSync(ServerPlayerEntity player) {
+        NetPacketHandler.sendToPlayer(new UpdateClientApiaryMessage(this.getPos(), this.saveToNBT(new CompoundNBT()), beeRevision), player);
+    }
+
+    public void handleFullSync(CompoundNBT data, int revision) {
+        this.BEES.clear();
+        this.loadFromNBT(data);
+        this.beeRevision = revision;
+    }
+
+    private void markBeeAdded(String beeType) {
+        changedBees.remove(beeType);
+        addedBees.add(beeType);
+    }
+
+    private void markBeeChanged(String beeType) {
+        if (!addedBees.contains(beeType)) changedBees.add(beeType);
+    }
+
+    private void markBeeRemoved(String beeType) {
+        addedBees.remove(beeType);
+        changedBees.remove(beeType);
+        removedBees.add(beeType);
+    }
+
+    /**
+     * Sends the bees added, changed or removed since the last call to the players that have the apiary screen open.
+     * Clients that are out of step with the revision ask for a full sync instead.
+     */
+    private void syncBeesToPlayersUsing() {
+        if (addedBees.isEmpty() && changedBees.isEmpty() && removedBees.isEmpty()) return;
+
+        playersUsing.removeIf(player -> !(player.openContainer instanceof ValidatedApiaryContainer) || ((ValidatedApiaryContainer) player.openContainer).apiaryTileEntity != this);
+        if (!playersUsing.isEmpty()) {
+            updateBeeTimers();
+            List<ApiaryBee> added = new ArrayList<>(addedBees.size());
+            addedBees.forEach(beeType -> added.add(BEES.get(beeType)));
+            List<SyncApiaryBeesMessage.ChangedBee> changed = new ArrayList<>(changedBees.size());
+            changedBees.forEach(beeType -> changed.add(new SyncApiaryBeesMessage.ChangedBee(BEES.get(beeType))));
+
+            SyncApiaryBeesMessage message = new SyncApiaryBeesMessage(this.getPos(), beeRevision, ++beeRevision, new ArrayList<>(removedBees), added, changed);
+            playersUsing.forEach(player -> NetPacketHandler.sendToPlayer(message, player));
         }
 
-        return i;
+        addedBees.clear();
+        changedBees.clear();
+        removedBees.clear();
     }
 
-    public static void syncApiaryToPlayersUsing(World world, BlockPos pos, CompoundNBT data) {
-        NetPacketHandler.sendToAllLoaded(new UpdateClientApiaryMessage(pos, data), world, pos);
+    public boolean handleBeeSync(SyncApiaryBeesMessage message) {
+        if (message.getFromRevision() != beeRevision) return false;
+
+        message.getRemovedBees().forEach(BEES::remove);
+        message.getAddedBees().forEach(apiaryBee -> BEES.put(apiaryBee.beeType, apiaryBee));
+
+        for (SyncApiaryBeesMessage.ChangedBee changedBee : message.getChangedBees()) {
+            ApiaryBee apiaryBee = BEES.get(changedBee.beeType);
+            if (apiaryBee == null) return false;
+            apiaryBee.ticksInHive = changedBee.ticksInHive;
+            apiaryBee.minOccupationTicks = changedBee.minOccupationTicks;
+            apiaryBee.isLocked = changedBee.isLocked;
+        }
+
+        beeRevision = message.getToRevision();
+        return true;
     }
     //endregion
 
     public boolean isValidApiary(boolean runValidation) {
-        if (runValidation) {
+        if (runValidation && structureDirty) {
             runStructureValidation(null);
         }
         return isValidApiary;
@@ -235,14 +305,14 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
                 }
 
                 if (!this.BEES.containsKey(type) && this.BEES.size() < getMaxBees()) {
+                    updateBeeTimers();
                     bee.removePassengers();
                     CompoundNBT nbt = new CompoundNBT();
                     bee.writeUnlessPassenger(nbt);
 
-                    int maxTimeInHive = setMaxTimeInHive(BeeConstants.MAX_TIME_IN_HIVE);
+                    int maxTimeInHive = getMaxTimeInHive(type);
                     if (bee instanceof ICustomBee) {
                         ICustomBee iCustomBee = (ICustomBee) bee;
-                        maxTimeInHive = setMaxTimeInHive(iCustomBee.getBeeData().getMaxTimeInHive());
 
                         if (iCustomBee.getBeeData().getColorData().hasPrimaryColor()) {
                             beeColor = iCustomBee.getBeeData().getColorData().getPrimaryColor();
@@ -268,8 +338,8 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
                         this.BEES.get(type).isLocked = true;
                     }
 
-                    if (this.numPlayersUsing > 0)
-                        syncApiaryToPlayersUsing(this.world, this.getPos(), this.saveToNBT(new CompoundNBT()));
+                    markBeeAdded(type);
+                    scheduleWakeUp(1);
 
                     bee.remove();
                     return true;
@@ -283,21 +353,106 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
         return this.getTier() != 1 ? this.getTier() == 0 ? (int) (timeInput * 1.05) : (int) (timeInput * (1 - getTier() * .05)) : timeInput;
     }
 
+    private int getMaxTimeInHive(String beeType) {
+        CustomBeeData beeData = BeeRegistry.getRegistry().getBeeData(beeType);
+        return setMaxTimeInHive(beeData != null ? beeData.getMaxTimeInHive() : BeeConstants.MAX_TIME_IN_HIVE);
+    }
+
+    /**
+     * Runs a bee's trip to its flower and back without spawning it: delivers the honeycomb it brought in, then keeps it
+     * inside for as long as the trip and its next stay in the apiary would take. Only bees with a known, loaded flower
+     * are simulated, everything else flies out as usual.
+     */
+    private boolean simulateBee(ApiaryBee apiaryBee, State state) {
+        if (this.world == null || !Config.APIARY_VIRTUAL_BEES.get() || this.world.rand.nextDouble() < Config.APIARY_AMBIENT_BEE_CHANCE.get()) {
+            return false;
+        }
+        BlockPos flowerPos = apiaryBee.savedFlowerPos;
+        if (flowerPos == null || !this.world.isBlockLoaded(flowerPos) || !isFlower(apiaryBee.beeType, this.world.getBlockState(flowerPos))) {
+            return false;
+        }
+
+        if (state == State.HONEY_DELIVERED && isValidApiary(true)) {
+            ApiaryStorageTileEntity storage = getApiaryStorage();
+            if (storage != null) storage.deliverHoneycomb(apiaryBee.beeType, getTier());
+        }
+        apiaryBee.entityData.putBoolean("HasNectar", true);
+
+        apiaryBee.ticksInHive = 0;
+        apiaryBee.minOccupationTicks = estimateTripTicks(flowerPos) + this.world.rand.nextInt(100) + getMaxTimeInHive(apiaryBee.beeType);
+        return true;
+    }
+
+    /**
+     * Time a bee needs to fly to its flower, pollinate it and fly back, not counting the random delays.
+     */
+    private int estimateTripTicks(BlockPos flowerPos) {
+        return 2 * (int) Math.sqrt(flowerPos.distanceSq(this.getPos())) * BeeConstants.FLIGHT_TICKS_PER_BLOCK + BeeConstants.POLLINATION_TICKS;
+    }
+
+    /**
+     * Produces what the bees would have made while the apiary wasn't ticking, up to the configured window.
+     * Each bee finishes its current stay, then completes as many average length trips as fit in the remaining time,
+     * and all of its honeycomb is delivered at once so the storage caps the output.
+     */
+    private void catchUp(long missedTicks) {
+        int window = Config.APIARY_MAX_CATCH_UP_TICKS.get();
+        if (this.world == null || window == 0 || BEES.isEmpty() || !isValidApiary(true)) return;
+        ApiaryStorageTileEntity storage = getApiaryStorage();
+        if (storage == null) return;
+
+        int ticks = (int) Math.min(missedTicks, window);
+        BEES.forEach((beeType, apiaryBee) -> {
+            int remaining = Math.max(apiaryBee.minOccupationTicks - apiaryBee.ticksInHive, 0);
+            if (apiaryBee.isLocked || ticks <= remaining) {
+                apiaryBee.ticksInHive = (int) Math.min((long) apiaryBee.ticksInHive + ticks, Integer.MAX_VALUE - 1);
+            } else {
+                int deliveries = apiaryBee.entityData.getBoolean("HasNectar") ? 1 : 0;
+                BlockPos flowerPos = apiaryBee.savedFlowerPos;
+                if (flowerPos != null && (!this.world.isBlockLoaded(flowerPos) || isFlower(beeType, this.world.getBlockState(flowerPos)))) {
+                    int cycle = estimateTripTicks(flowerPos) + 50 + getMaxTimeInHive(beeType);
+                    int left = ticks - remaining;
+                    deliveries += left / cycle;
+                    apiaryBee.entityData.putBoolean("HasNectar", true);
+                    apiaryBee.ticksInHive = left % cycle;
+                    apiaryBee.minOccupationTicks = cycle;
+                } else {
+                    // without a flower to go to the bee would have left to look for one
+                    apiaryBee.entityData.putBoolean("HasNectar", false);
+                    apiaryBee.ticksInHive = apiaryBee.minOccupationTicks + 1;
+                }
+                if (deliveries > 0) storage.deliverHoneycomb(beeType, getTier(), deliveries);
+            }
+            markBeeChanged(beeType);
+        });
+    }
+
+    private static boolean isFlower(String beeType, BlockState state) {
+        CustomBeeData beeData = BeeRegistry.getRegistry().getBeeData(beeType);
+        String flower = beeData != null ? beeData.getFlower() : BeeConstants.FLOWER_TAG_ALL;
+        return FlowerPredicates.isFlower(flower, state);
+    }
+
     @Override
     public void tick() {
         if (world != null) {
             BlockPos blockpos = this.getPos();
-            int x = blockpos.getX();
-            int y = blockpos.getY();
-            int z = blockpos.getZ();
-            ++ticksSinceSync;
-            this.numPlayersUsing = calculatePlayersUsingSync(this.world, this, this.ticksSinceSync, x, y, z, this.numPlayersUsing);
 
-            this.tickBees();
+            if (!world.isRemote) {
+                long gameTime = world.getGameTime();
+                long missedTicks = clock.getMissedTicks(gameTime);
+                if (missedTicks > 0) {
+                    updateBeeTimers();
+                    catchUp(missedTicks);
+                }
+                clock.tick(gameTime);
+                if (missedTicks > 0 || !clock.isScheduled() || clock.isStale(gameTime)) scheduleWakeUp(1);
+            } else {
+                this.tickClientBees();
+            }
 
             if (!world.isRemote && isValidApiary) {
-                if (ticksSinceValidation >= 20) runStructureValidation(null);
-                else ticksSinceValidation++;
+                if (structureDirty || MultiBlockTracker.isRecheckDue(world.getGameTime(), pos)) runStructureValidation(null);
 
                 if (this.BEES.size() > 0 && this.world.getRandom().nextDouble() < 0.005D) {
                     double d0 = blockpos.getX() + 0.5D;
@@ -305,39 +460,92 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
                     double d2 = blockpos.getZ() + 0.5D;
                     this.world.playSound(null, d0, d1, d2, SoundEvents.BLOCK_BEEHIVE_WORK, SoundCategory.BLOCKS, 1.0F, 1.0F);
                 }
+            }
 
-                ticksSinceBeesFlagged++;
-                if (ticksSinceBeesFlagged == 80) {
-                    BeeInfoUtils.flagBeesInRange(pos, world);
-                    ticksSinceBeesFlagged = 0;
-                }
+            if (!world.isRemote) {
+                syncBeesToPlayersUsing();
+                pendingBlockState.flush();
             }
         }
     }
 
-    private void tickBees() {
-        if (this.world != null) {
-            Iterator<Map.Entry<String, ApiaryBee>> iterator = this.BEES.entrySet().iterator();
-            BlockState blockstate = this.getBlockState();
-
-            while (iterator.hasNext()) {
-                Map.Entry<String, ApiaryBee> element = iterator.next();
-                ApiaryBee apiaryBee = element.getValue();
-                if (!apiaryBee.isLocked && apiaryBee.ticksInHive > apiaryBee.minOccupationTicks && !world.isRemote) {
-
-                    CompoundNBT compoundnbt = apiaryBee.entityData;
-                    State state = compoundnbt.getBoolean("HasNectar") ? State.HONEY_DELIVERED : State.BEE_RELEASED;
-                    if (this.releaseBee(blockstate, compoundnbt, state, apiaryBee.savedFlowerPos, false)) {
-                        iterator.remove();
-                        if (this.numPlayersUsing > 0 && !this.world.isRemote)
-                            syncApiaryToPlayersUsing(this.world, this.getPos(), this.saveToNBT(new CompoundNBT()));
-                    }
-                } else {
-                    apiaryBee.ticksInHive++;
-                    apiaryBee.ticksInHive = Math.min(apiaryBee.ticksInHive, Integer.MAX_VALUE - 1);
+    /**
+     * Adds the extra ticks to every bee's stay at once and asks to be woken up next tick if that made any of them due.
+     * Only bees that became due are synced to open screens; timer progress alone isn't worth a packet every tick.
+     */
+    @Override
+    public void advanceTicks(int ticks) {
+        if (world == null || world.isRemote || ticks <= 0 || BEES.isEmpty()) return;
+        updateBeeTimers();
+        BEES.forEach((beeType, apiaryBee) -> {
+            boolean wasDue = apiaryBee.ticksInHive > apiaryBee.minOccupationTicks;
+            apiaryBee.ticksInHive = (int) Math.min((long) apiaryBee.ticksInHive + ticks, Integer.MAX_VALUE - 1);
+            if (!wasDue && apiaryBee.ticksInHive > apiaryBee.minOccupationTicks) markBeeChanged(beeType);
+        });
+        scheduleWakeUp(1);
+    }
+
+    /**
+     * Releases, or simulates the trip of, every unlocked bee whose stay is over, then asks to be woken up again when
+     * the next bee is due.
+     */
+    @Override
+    public void wakeUp(long gameTime) {
+        if (world == null || !clock.consumeWakeUp(gameTime)) return;
+        updateBeeTimers();
+        Iterator<Map.Entry<String, ApiaryBee>> iterator = this.BEES.entrySet().iterator();
+        BlockState blockstate = this.getBlockState();
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, ApiaryBee> element = iterator.next();
+            ApiaryBee apiaryBee = element.getValue();
+            if (!apiaryBee.isLocked && apiaryBee.ticksInHive > apiaryBee.minOccupationTicks) {
+                CompoundNBT compoundnbt = apiaryBee.entityData;
+                State state = compoundnbt.getBoolean("HasNectar") ? State.HONEY_DELIVERED : State.BEE_RELEASED;
+                if (simulateBee(apiaryBee, state)) {
+                    markBeeChanged(element.getKey());
+                } else if (this.releaseBee(blockstate, compoundnbt, state, apiaryBee.savedFlowerPos, false)) {
+                    iterator.remove();
+                    markBeeRemoved(element.getKey());
                 }
             }
         }
+        scheduleWakeUp(HiveScheduler.RETRY_DELAY);
+    }
+
+    /**
+     * Brings the stored bee timers up to the current game time.
+     */
+    private void updateBeeTimers() {
+        if (world == null || world.isRemote) return;
+        int elapsed = clock.elapse(world.getGameTime());
+        if (elapsed > 0) {
+            BEES.values().forEach(apiaryBee -> apiaryBee.ticksInHive = (int) Math.min((long) apiaryBee.ticksInHive + elapsed, Integer.MAX_VALUE - 1));
+        }
+    }
+
+    /**
+     * Schedules a wake-up for when the next unlocked bee is due, but no sooner than the given delay.
+     */
+    private void scheduleWakeUp(int minDelay) {
+        if (world == null || world.isRemote) return;
+        updateBeeTimers();
+        int nextDue = Integer.MAX_VALUE;
+        for (ApiaryBee apiaryBee : BEES.values()) {
+            if (!apiaryBee.isLocked) {
+                nextDue = Math.min(nextDue, Math.max(apiaryBee.minOccupationTicks + 1 - apiaryBee.ticksInHive, minDelay));
+            }
+        }
+        if (nextDue == Integer.MAX_VALUE) return;
+        long gameTime = world.getGameTime();
+        clock.schedule(world, pos, gameTime, gameTime + nextDue);
+    }
+
+    /**
+     * Keeps counting the bee timers on the client so the apiary screen shows them moving between syncs.
+     */
+    private void tickClientBees() {
+        BEES.values().forEach(apiaryBee -> apiaryBee.ticksInHive = Math.min(apiaryBee.ticksInHive + 1, Integer.MAX_VALUE - 1));
     }
 
     public boolean isFullOfBees() {
@@ -350,8 +558,10 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
     }
 
     public void lockOrUnlockBee(String beeType) {
+        updateBeeTimers();
         this.BEES.get(beeType).isLocked = !this.BEES.get(beeType).isLocked;
-        syncApiaryToPlayersUsing(this.world, this.getPos(), this.saveToNBT(new CompoundNBT()));
+        markBeeChanged(beeType);
+        scheduleWakeUp(1);
     }
     //endregion
 
@@ -438,6 +648,8 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
         if (nbt.contains(NBTConstants.NBT_TIER)) {
             setTier(nbt.getInt(NBTConstants.NBT_TIER));
         }
+        if (nbt.contains(NBTConstants.NBT_LAST_TICK_TIME))
+            clock.setLastTick(nbt.getLong(NBTConstants.NBT_LAST_TICK_TIME));
         validateBees();
     }
 
@@ -451,6 +663,7 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
     }
 
     public CompoundNBT saveToNBT(CompoundNBT nbt) {
+        updateBeeTimers();
         CompoundNBT inv = this.h.serializeNBT();
         nbt.put(NBTConstants.NBT_INVENTORY, inv);
         nbt.put(NBTConstants.NBT_BEES, this.writeBees());
@@ -462,6 +675,7 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
         if (breederPos != null)
             nbt.put(NBTConstants.NBT_BREEDER_POS, NBTUtil.writeBlockPos(breederPos));
         nbt.putInt(NBTConstants.NBT_TIER, getTier());
+        nbt.putLong(NBTConstants.NBT_LAST_TICK_TIME, clock.getLastTick());
         return nbt;
     }
 
@@ -531,8 +745,7 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
         if (exported) {
             this.BEES.remove(beeType);
             this.h.getStackInSlot(EMPTY_JAR).shrink(1);
-            if (this.numPlayersUsing > 0 && this.world != null && !this.world.isRemote)
-                syncApiaryToPlayersUsing(this.world, this.getPos(), this.saveToNBT(new CompoundNBT()));
+            markBeeRemoved(beeType);
         }
 
         player.sendStatusMessage(new TranslationTextComponent("gui.resourcefulbees.apiary.export." + exported), true);
@@ -551,15 +764,36 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
         if (this.world != null && !this.world.isRemote()) {
             if (!this.isValidApiary || STRUCTURE_BLOCKS.isEmpty())
                 buildStructureBlockList();
+            this.structureDirty = false;
             this.isValidApiary = validateStructure(this.world, validatingPlayer);
-            this.world.setBlockState(this.getPos(), getBlockState().with(ApiaryBlock.VALIDATED, this.isValidApiary));
+            updateHiveIndex();
+            pendingBlockState.set(ApiaryBlock.VALIDATED, this.isValidApiary);
             if (validatingPlayer != null && this.isValidApiary) {
                 NetworkHooks.openGui(validatingPlayer, this, this.getPos());
             }
-            this.ticksSinceValidation = 0;
         }
     }
 
+    private void trackStructure(MutableBoundingBox box) {
+        untrackStructure();
+        if (this.world != null && !this.world.isRemote()) {
+            trackedStructure = MultiBlockTracker.track(this.world, this.getPos(), box, blockPos -> isOnShell(box, blockPos), () -> structureDirty = true);
+        }
+    }
+
+    private void untrackStructure() {
+        if (trackedStructure != null) {
+            MultiBlockTracker.untrack(trackedStructure);
+            trackedStructure = null;
+        }
+    }
+
+    private static boolean isOnShell(MutableBoundingBox box, BlockPos blockPos) {
+        return blockPos.getX() == box.minX || blockPos.getX() == box.maxX ||
+                blockPos.getY() == box.minY || blockPos.getY() == box.maxY ||
+                blockPos.getZ() == box.minZ || blockPos.getZ() == box.maxZ;
+    }
+
     public boolean validateStructure(World worldIn, @Nullable ServerPlayerEntity validatingPlayer) {
         AtomicBoolean isStructureValid = new AtomicBoolean(true);
         this.apiaryStorage = getApiaryStorage();
@@ -606,13 +840,12 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
             MutableBoundingBox box = buildStructureBounds(this.horizontalOffset, this.verticalOffset);
             STRUCTURE_BLOCKS.clear();
             BlockPos.stream(box).forEach((blockPos -> {
-                if (blockPos.getX() == box.minX || blockPos.getX() == box.maxX ||
-                        blockPos.getY() == box.minY || blockPos.getY() == box.maxY ||
-                        blockPos.getZ() == box.minZ || blockPos.getZ() == box.maxZ) {
+                if (isOnShell(box, blockPos)) {
                     BlockPos savedPos = new BlockPos(blockPos.getX(), blockPos.getY(), blockPos.getZ());
                     STRUCTURE_BLOCKS.add(savedPos);
                 }
             }));
+            trackStructure(box);
         }
     }
 
@@ -684,12 +917,38 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
     }
     //endregion
 
+    private void updateHiveIndex() {
+        if (this.world != null && !this.world.isRemote) {
+            if (this.isValidApiary) BeeIndex.addHive(this.world, this.pos);
+            else BeeIndex.removeHive(this.world, this.pos);
+        }
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        updateHiveIndex();
+    }
+
+    @Override
+    public void remove() {
+        untrackStructure();
+        if (this.world != null) BeeIndex.removeHive(this.world, this.pos);
+        super.remove();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        untrackStructure();
+        if (this.world != null) BeeIndex.removeHive(this.world, this.pos);
+        super.onChunkUnloaded();
+    }
+
     //region SCREEN HANDLING
     @Nullable
     @Override
     public Container createMenu(int i, @Nonnull PlayerInventory playerInventory, @Nonnull PlayerEntity playerEntity) {
         if (world != null) {
-            numPlayersUsing++;
             if (isValidApiary(true)) {
                 //this.isValidApiary = validateStructure(world, (ServerPlayerEntity) playerEntity);
                 //if (this.isValidApiary) {
@@ -744,7 +1003,7 @@ public class ApiaryTileEntity extends TileEntity implements ITickableTileEntity,
 
     public static class ApiaryBee {
         public final CompoundNBT entityData;
-        public final int minOccupationTicks;
+        public int minOccupationTicks;
         public final BlockPos savedFlowerPos;
         public final String beeType;
         public int ticksInHive;
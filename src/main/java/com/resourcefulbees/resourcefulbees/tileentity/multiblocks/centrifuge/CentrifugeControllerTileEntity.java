@@ -8,7 +8,7 @@ import com.resourcefulbees.resourcefulbees.container.CentrifugeMultiblockContain
 import com.resourcefulbees.resourcefulbees.registry.ModContainers;
 import com.resourcefulbees.resourcefulbees.tileentity.CentrifugeTileEntity;
 import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.MultiBlockHelper;
-import com.resourcefulbees.resourcefulbees.utils.MathUtils;
+import com.resourcefulbees.resourcefulbees.tileentity.multiblocks.MultiBlockTracker;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
@@ -36,7 +36,8 @@ import static com.resourcefulbees.resourcefulbees.tileentity.multiblocks.MultiBl
 
 public class CentrifugeControllerTileEntity extends CentrifugeTileEntity {
 
-    protected int validateTime = MathUtils.nextInt(10) + 10;
+    protected boolean structureDirty = true;
+    private MultiBlockTracker.TrackedStructure trackedStructure;
     protected boolean validStructure;
     protected final List<BlockPos> STRUCTURE_BLOCKS = new ArrayList<>();
 
@@ -44,11 +45,11 @@ public class CentrifugeControllerTileEntity extends CentrifugeTileEntity {
         public int get(int index) {
             switch(index) {
                 case 0:
-                    return CentrifugeControllerTileEntity.this.time[0];
+                    return CentrifugeControllerTileEntity.this.getProcessTime(0);
                 case 1:
-                    return CentrifugeControllerTileEntity.this.time[1];
+                    return CentrifugeControllerTileEntity.this.getProcessTime(1);
                 case 2:
-                    return CentrifugeControllerTileEntity.this.time[2];
+                    return CentrifugeControllerTileEntity.this.getProcessTime(2);
                 default:
                     return 0;
             }
@@ -80,34 +81,50 @@ public class CentrifugeControllerTileEntity extends CentrifugeTileEntity {
     @Override
     public void tick() {
         if (world != null && !world.isRemote()) {
-            if (isValidStructure() && (!requiresRedstone || isPoweredByRedstone)) {
-                for (int i = 0; i < honeycombSlots.length; i++) {
-                    recipes.set(i, getRecipe(i));
-                    if (canStartCentrifugeProcess(i)) {
-                        isProcessing[i] = true;
-                    }
-                    if (isProcessing[i] && !processCompleted[i]) {
-                        processRecipe(i);
-                    }
-                    if (processCompleted[i]) {
-                        processCompleted(i);
-                    }
-                }
+            if (isRunning()) {
+                if (!tickProcesses()) sleep();
             }
-            validateTime++;
-            if (validateTime >= 20) {
+            if (structureDirty || MultiBlockTracker.isRecheckDue(world.getGameTime(), pos)) {
                 validateStructure(this.world, null);
             }
             if (dirty) {
                 this.dirty = false;
                 this.markDirty();
             }
+            pendingBlockState.flush();
         }
     }
 
+    @Override
+    public void advanceTicks(int ticks) {
+        if (world == null || world.isRemote()) return;
+        int remaining = ticks;
+        while (remaining > 0) {
+            boolean running = isRunning();
+            if (running && !tickProcesses()) sleep();
+            boolean validated = structureDirty;
+            if (validated) validateStructure(this.world, null);
+            if (!running && !validated) break;
+            remaining--;
+            if (isRunning()) remaining -= skipTicks(remaining);
+        }
+        if (dirty) {
+            this.dirty = false;
+            this.markDirty();
+        }
+        pendingBlockState.flush();
+    }
+
+    private boolean isRunning() {
+        return isValidStructure() && (!requiresRedstone || isPoweredByRedstone) && !isSleeping();
+    }
+
     @Override
     public int getMaxTankCapacity() { return 10000; }
 
+    @Override
+    public int getBatchSize() { return Config.MULTIBLOCK_CENTRIFUGE_BATCH_SIZE.get(); }
+
     @Override
     public int getRecipeTime(int i) { return getRecipe(i) != null ? Math.max(5, getRecipe(i).multiblockTime) : Config.GLOBAL_CENTRIFUGE_RECIPE_TIME.get(); }
 
@@ -155,7 +172,10 @@ public class CentrifugeControllerTileEntity extends CentrifugeTileEntity {
     protected CustomEnergyStorage createEnergy() {
         return new CustomEnergyStorage(Config.MAX_CENTRIFUGE_RF.get() * 5, 500, 0) {
             @Override
-            protected void onEnergyChanged() { markDirty(); }
+            protected void onEnergyChanged() {
+                markDirty();
+                wakeUp();
+            }
         };
     }
 
@@ -181,11 +201,20 @@ public class CentrifugeControllerTileEntity extends CentrifugeTileEntity {
 
     protected int numberOfCasingsRequired() { return 35; }
 
+    /**
+     * Checks the structure and links its casings. This only runs when the controller is loaded, after a block inside
+     * the structure's bounds changed or a linked casing was removed, and every {@link MultiBlockTracker#RECHECK_INTERVAL}
+     * ticks to catch changes that didn't notify their neighbors.
+     */
     protected void validateStructure(World world, @Nullable ServerPlayerEntity player) {
-        validateTime = 0;
-        buildStructureList(getBounds(), STRUCTURE_BLOCKS, blockPos -> true, this.getPos());
+        structureDirty = false;
+        if (trackedStructure == null) {
+            MutableBoundingBox bounds = getBounds();
+            buildStructureList(bounds, STRUCTURE_BLOCKS, blockPos -> true, this.getPos());
+            trackedStructure = MultiBlockTracker.track(world, this.getPos(), bounds, blockPos -> true, () -> structureDirty = true);
+        }
         validStructure = MultiBlockHelper.validateStructure(STRUCTURE_BLOCKS, validBlocks(), numberOfCasingsRequired());
-        world.setBlockState(pos, getBlockState().with(CentrifugeControllerBlock.PROPERTY_VALID, validStructure));
+        pendingBlockState.set(CentrifugeControllerBlock.PROPERTY_VALID, validStructure);
 
         if (validStructure) {
             linkCasings(world);
@@ -215,18 +244,33 @@ public class CentrifugeControllerTileEntity extends CentrifugeTileEntity {
     public void invalidateStructure() {
         assert world != null;
         this.validStructure = false;
+        this.structureDirty = true;
         unlinkCasings(world);
     }
 
+    private void untrackStructure() {
+        if (trackedStructure != null) {
+            MultiBlockTracker.untrack(trackedStructure);
+            trackedStructure = null;
+        }
+    }
+
     public boolean isValidStructure() { return this.validStructure; }
 
     @Override
     public void remove() {
         assert world != null;
+        untrackStructure();
         unlinkCasings(world);
         super.remove();
     }
 
+    @Override
+    public void onChunkUnloaded() {
+        untrackStructure();
+        super.onChunkUnloaded();
+    }
+
     //endregion
 }
 
@@ -23,17 +23,17 @@ public class EliteCentrifugeControllerTileEntity extends CentrifugeControllerTil
         public int get(int index) {
             switch(index) {
                 case 0:
-                    return EliteCentrifugeControllerTileEntity.this.time[0];
+                    return EliteCentrifugeControllerTileEntity.this.getProcessTime(0);
                 case 1:
-                    return EliteCentrifugeControllerTileEntity.this.time[1];
+                    return EliteCentrifugeControllerTileEntity.this.getProcessTime(1);
                 case 2:
-                    return EliteCentrifugeControllerTileEntity.this.time[2];
+                    return EliteCentrifugeControllerTileEntity.this.getProcessTime(2);
                 case 3:
-                    return EliteCentrifugeControllerTileEntity.this.time[3];
+                    return EliteCentrifugeControllerTileEntity.this.getProcessTime(3);
                 case 4:
-                    return EliteCentrifugeControllerTileEntity.this.time[4];
+                    return EliteCentrifugeControllerTileEntity.this.getProcessTime(4);
                 case 5:
-                    return EliteCentrifugeControllerTileEntity.this.time[5];
+                    return EliteCentrifugeControllerTileEntity.this.getProcessTime(5);
                 default:
                     return 0;
             }
@@ -80,7 +80,10 @@ public class EliteCentrifugeControllerTileEntity extends CentrifugeControllerTil
     protected CustomEnergyStorage createEnergy() {
         return new CustomEnergyStorage(Config.MAX_CENTRIFUGE_RF.get() * 10, 1000, 0) {
             @Override
-            protected void onEnergyChanged() { markDirty(); }
+            protected void onEnergyChanged() {
+                markDirty();
+                wakeUp();
+            }
         };
     }
 
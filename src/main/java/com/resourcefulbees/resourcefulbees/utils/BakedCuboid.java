@@ -0,0 +1,120 @@
+package com.resourcefulbees.resourcefulbees.utils;
+
+import com.mojang.blaze3d.matrix.MatrixStack;
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import net.minecraft.util.Direction;
+import net.minecraft.util.Direction.Axis;
+import net.minecraft.util.math.vector.Matrix3f;
+import net.minecraft.util.math.vector.Matrix4f;
+import net.minecraft.util.math.vector.Vector3f;
+import net.minecraft.util.math.vector.Vector3i;
+import net.minecraft.util.math.vector.Vector4f;
+
+/**
+ * A cuboid with the same sprite on every face, turned into its final vertices once so it can be drawn every frame
+ * without building a {@link CubeModel} or any vectors. Produces the same quads as {@link RenderCuboid#renderCube}.
+ */
+public class BakedCuboid {
+
+    private static final int VERTEX_SIZE = 8;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // only used on the render thread, so every model can share them
+    private static final Vector4f POSITION = new Vector4f();
+    private static final Vector3f NORMAL = new Vector3f();
+
+    private final float[] vertices;
+
+    private BakedCuboid(float[] vertices) {
+        this.vertices = vertices;
+    }
+
+    public static BakedCuboid bake(float startX, float startY, float startZ, float endX, float endY, float endZ,
+                                   float spriteMinU, float spriteMaxU, float spriteMinV, float spriteMaxV) {
+        float[] start = {startX, startY, startZ};
+        float[] size = {endX - startX, endY - startY, endZ - startZ};
+        FloatArrayList out = new FloatArrayList();
+
+        for (Direction direction : DIRECTIONS) {
+            Axis u = direction.getAxis() == Axis.X ? Axis.Z : Axis.X;
+            Axis v = direction.getAxis() == Axis.Y ? Axis.Z : Axis.Y;
+            float other = direction.getAxisDirection() == Direction.AxisDirection.POSITIVE ? get(size, direction.getAxis()) : 0.0F;
+            Direction face = direction.getAxisDirection() == Direction.AxisDirection.NEGATIVE ? direction : direction.getOpposite();
+            Direction opposite = face.getOpposite();
+            float sizeU = get(size, u);
+            float sizeV = get(size, v);
+            for (int uIndex = 0; uIndex < sizeU; ++uIndex) {
+                float addU = Math.min(1.0F, sizeU - uIndex);
+                float minU = spriteMinU;
+                float maxU = addU < 1.0F ? spriteMinU + (spriteMaxU - spriteMinU) * addU : spriteMaxU;
+                for (int vIndex = 0; vIndex < sizeV; ++vIndex) {
+                    float addV = Math.min(1.0F, sizeV - vIndex);
+                    float minV = spriteMaxV;
+                    float maxV = addV < 1.0F ? spriteMaxV + (spriteMinV - spriteMaxV) * addV : spriteMinV;
+                    float[] uv = {minU, maxU, minV, maxV};
+                    float[] xyz = {uIndex, uIndex + addU, vIndex, vIndex + addV};
+                    addVertex(out, start, face, u, v, other, uv, xyz, true, false);
+                    addVertex(out, start, face, u, v, other, uv, xyz, true, true);
+                    addVertex(out, start, face, u, v, other, uv, xyz, false, true);
+                    addVertex(out, start, face, u, v, other, uv, xyz, false, false);
+                    addVertex(out, start, opposite, u, v, other, uv, xyz, false, false);
+                    addVertex(out, start, opposite, u, v, other, uv, xyz, false, true);
+                    addVertex(out, start, opposite, u, v, other, uv, xyz, true, true);
+                    addVertex(out, start, opposite, u, v, other, uv, xyz, true, false);
+                }
+            }
+        }
+        return new BakedCuboid(out.toFloatArray());
+    }
+
+    private static void addVertex(FloatArrayList out, float[] start, Direction face, Axis u, Axis v, float other, float[] uv, float[] xyz, boolean minU, boolean minV) {
+        int uIndex = minU ? 0 : 1;
+        int vIndex = minV ? 2 : 3;
+        float[] position = new float[3];
+        position[u.ordinal()] = xyz[uIndex];
+        position[v.ordinal()] = xyz[vIndex];
+        position[face.getAxis().ordinal()] = other;
+
+        Vector3i normalForFace = face.getDirectionVec();
+        float adjustment = 2.5F;
+        Vector3f norm = new Vector3f(normalForFace.getX() + adjustment, normalForFace.getY() + adjustment, normalForFace.getZ() + adjustment);
+        norm.normalize();
+
+        out.add(start[0] + position[0]);
+        out.add(start[1] + position[1]);
+        out.add(start[2] + position[2]);
+        out.add(uv[uIndex]);
+        out.add(uv[vIndex]);
+        out.add(norm.getX());
+        out.add(norm.getY());
+        out.add(norm.getZ());
+    }
+
+    private static float get(float[] vector, Axis axis) {
+        return vector[axis.ordinal()];
+    }
+
+    public void render(MatrixStack matrix, IVertexBuilder buffer, int argb, int light, int overlay) {
+        float red = (argb >> 16 & 255) / 255.0F;
+        float green = (argb >> 8 & 255) / 255.0F;
+        float blue = (argb & 255) / 255.0F;
+        float alpha = (argb >> 24 & 255) / 255.0F;
+        MatrixStack.Entry lastMatrix = matrix.peek();
+        Matrix4f matrix4f = lastMatrix.getModel();
+        Matrix3f normal = lastMatrix.getNormal();
+        for (int i = 0; i < vertices.length; i += VERTEX_SIZE) {
+            POSITION.set(vertices[i], vertices[i + 1], vertices[i + 2], 1.0F);
+            POSITION.transform(matrix4f);
+            NORMAL.set(vertices[i + 5], vertices[i + 6], vertices[i + 7]);
+            NORMAL.transform(normal);
+            buffer.vertex(POSITION.getX(), POSITION.getY(), POSITION.getZ())
+                    .color(red, green, blue, alpha)
+                    .texture(vertices[i + 3], vertices[i + 4])
+                    .overlay(overlay)
+                    .light(light)
+                    .normal(NORMAL.getX(), NORMAL.getY(), NORMAL.getZ())
+                    .endVertex();
+        }
+    }
+}
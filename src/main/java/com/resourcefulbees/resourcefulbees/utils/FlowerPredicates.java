@@ -0,0 +1,81 @@
+package com.resourcefulbees.resourcefulbees.utils;
+
+import com.google.common.collect.Sets;
+import com.resourcefulbees.resourcefulbees.lib.BeeConstants;
+import com.resourcefulbees.resourcefulbees.utils.validation.ValidatorUtils;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.DoublePlantBlock;
+import net.minecraft.state.properties.DoubleBlockHalf;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.ITag;
+import net.minecraftforge.event.TagsUpdatedEvent;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves a bee's flower definition into the set of block states it accepts, so checking a flower
+ * is a single set lookup instead of a regex match and a tag or registry lookup.
+ * Definitions are compiled on first use and dropped whenever tags are reloaded.
+ */
+public class FlowerPredicates {
+
+    private static final Map<String, Set<BlockState>> FLOWER_STATES = new ConcurrentHashMap<>();
+
+    private FlowerPredicates() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static Set<BlockState> getFlowerStates(String flower) {
+        return FLOWER_STATES.computeIfAbsent(flower, FlowerPredicates::compile);
+    }
+
+    public static boolean isFlower(String flower, BlockState state) {
+        return getFlowerStates(flower).contains(state);
+    }
+
+    public static void onTagsUpdated(TagsUpdatedEvent.VanillaTagTypes event) {
+        FLOWER_STATES.clear();
+    }
+
+    private static Set<BlockState> compile(String flower) {
+        if (flower.startsWith(BeeConstants.ENTITY_PREFIX)) return Collections.emptySet();
+
+        Set<BlockState> states = Sets.newIdentityHashSet();
+        if (ValidatorUtils.TAG_RESOURCE_PATTERN.matcher(flower).matches()) {
+            ITag<Block> blockTag = BeeInfoUtils.getBlockTag(flower.replace(BeeConstants.TAG_PREFIX, ""));
+            if (blockTag != null) blockTag.getAllElements().forEach(block -> states.addAll(block.getStateContainer().getValidStates()));
+        } else {
+            switch (flower) {
+                case BeeConstants.FLOWER_TAG_ALL:
+                    BlockTags.SMALL_FLOWERS.getAllElements().forEach(block -> states.addAll(block.getStateContainer().getValidStates()));
+                    BlockTags.TALL_FLOWERS.getAllElements().forEach(block -> addTallFlower(states, block));
+                    break;
+                case BeeConstants.FLOWER_TAG_SMALL:
+                    BlockTags.SMALL_FLOWERS.getAllElements().forEach(block -> states.addAll(block.getStateContainer().getValidStates()));
+                    break;
+                case BeeConstants.FLOWER_TAG_TALL:
+                    BlockTags.TALL_FLOWERS.getAllElements().forEach(block -> addTallFlower(states, block));
+                    break;
+                default:
+                    Block block = BeeInfoUtils.getBlock(flower);
+                    if (BeeInfoUtils.isValidBlock(block)) states.addAll(block.getStateContainer().getValidStates());
+            }
+        }
+        return Collections.unmodifiableSet(states);
+    }
+
+    private static void addTallFlower(Set<BlockState> states, Block block) {
+        for (BlockState state : block.getStateContainer().getValidStates()) {
+            states.remove(state);
+            // only the top half of a sunflower counts, same as vanilla bees
+            if (block != Blocks.SUNFLOWER || state.get(DoublePlantBlock.HALF) == DoubleBlockHalf.UPPER) {
+                states.add(state);
+            }
+        }
+    }
+}
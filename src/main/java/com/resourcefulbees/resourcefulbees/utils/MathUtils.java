@@ -168,6 +168,30 @@ public final class MathUtils {
     //Added by Resourceful Bees
     public static double nextDouble() { return RANDOM.nextDouble();}
 
+    /**
+     * Returns the number of successes in the given number of independent trials that each succeed with probability
+     * {@code p}, sampled by inversion so it takes about {@code trials * min(p, 1 - p)} steps instead of one roll per
+     * trial. Meant for modest trial counts such as a batch of crafts.
+     */
+    public static int nextBinomial(Random random, int trials, double p) {
+        if (trials <= 0 || p <= 0) return 0;
+        if (p >= 1) return trials;
+        if (p > 0.5) return trials - nextBinomial(random, trials, 1 - p);
+
+        double q = 1 - p;
+        double s = p / q;
+        double a = (trials + 1) * s;
+        double r = Math.pow(q, trials);
+        double u = random.nextDouble();
+        int successes = 0;
+        while (u > r && successes < trials) {
+            u -= r;
+            successes++;
+            r *= a / successes - s;
+        }
+        return successes;
+    }
+
     public static final double HALF_PI = Math.PI/2;
     public static final double QUARTER_PI = Math.PI/4;
 }
@@ -1,37 +1,57 @@
 package com.resourcefulbees.resourcefulbees.utils.color;
 
-import java.awt.Color;
-import java.util.Timer;
-import java.util.TimerTask;
+import net.minecraft.util.Util;
 
+/**
+ * Cycles red to green to blue and back, one step every {@link #STEP_MILLIS} milliseconds. The color is worked out from
+ * the clock each time it's asked for, so every caller sees the same color at the same moment without any shared state.
+ */
 public class RainbowColor {
 
-    private static int r = 255, g = 0, b = 0;
+    private static final int STEP_MILLIS = 40;
+    private static final int RED_TO_GREEN = 255;
+    private static final int GREEN_TO_BLUE = 254;
+    private static final int CYCLE = RED_TO_GREEN + 2 * GREEN_TO_BLUE;
 
-    public static void init() { new Timer().scheduleAtFixedRate(new ColorChange(), 0, 40); }
+    private RainbowColor() {
+        throw new IllegalAccessError("Utility class");
+    }
 
-    public static Color getColor() { return new Color(r,g,b); }
+    public static int getRGB() {
+        int step = getStep();
+        return 0xFF000000 | getRed(step) << 16 | getGreen(step) << 8 | getBlue(step);
+    }
 
-    public static float[] getColorFloats() { return getColor().getColorComponents(null); }
+    /**
+     * Writes the current color's RGB components (0 to 1.0) into the given array and returns it.
+     */
+    public static float[] getColorFloats(float[] dest) {
+        int step = getStep();
+        dest[0] = getRed(step) / 255f;
+        dest[1] = getGreen(step) / 255f;
+        dest[2] = getBlue(step) / 255f;
+        return dest;
+    }
 
-    public static int getRGB() { return getColor().getRGB(); }
+    private static int getStep() {
+        return (int) ((Util.milliTime() / STEP_MILLIS) % CYCLE);
+    }
 
-    private static class ColorChange extends TimerTask {
+    private static int getRed(int step) {
+        if (step < RED_TO_GREEN) return 255 - step;
+        step -= RED_TO_GREEN;
+        return step < GREEN_TO_BLUE ? 0 : step - GREEN_TO_BLUE + 1;
+    }
+
+    private static int getGreen(int step) {
+        if (step < RED_TO_GREEN) return step;
+        step -= RED_TO_GREEN;
+        return step < GREEN_TO_BLUE ? GREEN_TO_BLUE - step : 0;
+    }
 
-        @Override
-        public void run() {
-            if(r > 0 && b == 0){
-                r--;
-                g++;
-            }
-            if(g > 0 && r == 0){
-                g--;
-                b++;
-            }
-            if(b > 0 && g == 0){
-                r++;
-                b--;
-            }
-        }
+    private static int getBlue(int step) {
+        if (step < RED_TO_GREEN) return 0;
+        step -= RED_TO_GREEN;
+        return step < GREEN_TO_BLUE ? step + 1 : 2 * GREEN_TO_BLUE - step;
     }
 }
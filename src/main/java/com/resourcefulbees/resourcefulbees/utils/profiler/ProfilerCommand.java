@@ -0,0 +1,99 @@
+package com.resourcefulbees.resourcefulbees.utils.profiler;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.resourcefulbees.resourcefulbees.ResourcefulBees;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.event.RegisterCommandsEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /resourcefulbees profiler start|stop|reset|report [count]|dump [json|csv]} for the {@link TickProfiler}.
+ */
+public class ProfilerCommand {
+
+    private static final int DEFAULT_REPORT_SIZE = 10;
+
+    private ProfilerCommand() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static void register(RegisterCommandsEvent event) {
+        LiteralArgumentBuilder<CommandSource> profiler = Commands.literal("profiler")
+                .then(Commands.literal("start").executes(context -> start(context.getSource())))
+                .then(Commands.literal("stop").executes(context -> stop(context.getSource())))
+                .then(Commands.literal("reset").executes(context -> reset(context.getSource())))
+                .then(Commands.literal("report")
+                        .executes(context -> report(context.getSource(), DEFAULT_REPORT_SIZE))
+                        .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                                .executes(context -> report(context.getSource(), IntegerArgumentType.getInteger(context, "count")))))
+                .then(Commands.literal("dump")
+                        .executes(context -> dump(context.getSource(), false))
+                        .then(Commands.literal("json").executes(context -> dump(context.getSource(), false)))
+                        .then(Commands.literal("csv").executes(context -> dump(context.getSource(), true))));
+
+        event.getDispatcher().register(Commands.literal(ResourcefulBees.MOD_ID)
+                .requires(source -> source.hasPermissionLevel(2))
+                .then(profiler));
+    }
+
+    private static int start(CommandSource source) {
+        TickProfiler.start();
+        source.sendFeedback(new StringTextComponent("Tick profiler started"), true);
+        return 1;
+    }
+
+    private static int stop(CommandSource source) {
+        TickProfiler.stop();
+        source.sendFeedback(new StringTextComponent(String.format("Tick profiler stopped after %.1fs", TickProfiler.getProfiledNanos() / 1.0E9D)), true);
+        return 1;
+    }
+
+    private static int reset(CommandSource source) {
+        TickProfiler.reset();
+        source.sendFeedback(new StringTextComponent("Tick profiler reset"), true);
+        return 1;
+    }
+
+    private static int report(CommandSource source, int count) {
+        List<Map.Entry<Class<?>, TickProfiler.Stats>> types = TickProfiler.getTypes();
+        if (types.isEmpty()) {
+            source.sendErrorMessage(new StringTextComponent("Nothing has been profiled yet"));
+            return 0;
+        }
+        double seconds = Math.max(TickProfiler.getProfiledNanos() / 1.0E9D, 1.0E-9D);
+        source.sendFeedback(new StringTextComponent(String.format("Profiled %.1fs:", seconds)).formatted(TextFormatting.GOLD), false);
+        types.forEach(entry -> source.sendFeedback(new StringTextComponent(String.format("%s: %.2fms/s, mean %.1fus, max %.1fus over %d calls",
+                entry.getKey().getSimpleName(), entry.getValue().getTotal() / 1.0E6D / seconds, entry.getValue().getMean() / 1.0E3D,
+                entry.getValue().getMax() / 1.0E3D, entry.getValue().getCount())), false));
+
+        source.sendFeedback(new StringTextComponent("Top positions:").formatted(TextFormatting.GOLD), false);
+        TickProfiler.getTopSites(count).forEach(entry -> {
+            BlockPos pos = entry.getKey().getPos();
+            source.sendFeedback(new StringTextComponent(String.format("%s at %s [%d, %d, %d]: %.2fms/s, mean %.1fus, max %.1fus",
+                    entry.getKey().getType().getSimpleName(), entry.getKey().getDimension(), pos.getX(), pos.getY(), pos.getZ(),
+                    entry.getValue().getTotal() / 1.0E6D / seconds, entry.getValue().getMean() / 1.0E3D, entry.getValue().getMax() / 1.0E3D)), false);
+        });
+        return types.size();
+    }
+
+    private static int dump(CommandSource source, boolean csv) {
+        try {
+            Path file = TickProfiler.dump(source.getServer().getFile("debug/" + ResourcefulBees.MOD_ID).toPath(), csv);
+            source.sendFeedback(new StringTextComponent("Tick profile written to " + file), true);
+            return 1;
+        } catch (IOException e) {
+            ResourcefulBees.LOGGER.error("Could not write tick profile", e);
+            source.sendErrorMessage(new StringTextComponent("Could not write tick profile: " + e.getMessage()));
+            return 0;
+        }
+    }
+}
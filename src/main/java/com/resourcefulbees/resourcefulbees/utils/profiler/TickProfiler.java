@@ -0,0 +1,275 @@
+package com.resourcefulbees.resourcefulbees.utils.profiler;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.minecraft.entity.Entity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * Opt-in profiler for the mod's ticking tile entities and bee goals.
+ * While running it keeps a tick time histogram per class and per position; tile entities are tracked by their
+ * own position and goals by the chunk the bee is in. Everything is recorded on the server thread, and when the
+ * profiler is stopped the only cost left is a boolean check.
+ */
+public class TickProfiler {
+
+    private static final String MOD_PACKAGE = "com.resourcefulbees.";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    /** Bucket {@code i} counts ticks shorter than {@code 2^i} microseconds, the last bucket everything slower. */
+    private static final int BUCKETS = 16;
+
+    private static final Map<Class<?>, Stats> BY_TYPE = new HashMap<>();
+    private static final Map<Site, Stats> BY_SITE = new HashMap<>();
+    private static boolean enabled;
+    private static long startedAt;
+    private static long elapsed;
+    private static long tileEntityStart;
+
+    private TickProfiler() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void start() {
+        if (enabled) return;
+        enabled = true;
+        startedAt = System.nanoTime();
+    }
+
+    public static void stop() {
+        if (!enabled) return;
+        enabled = false;
+        elapsed += System.nanoTime() - startedAt;
+    }
+
+    public static void reset() {
+        BY_TYPE.clear();
+        BY_SITE.clear();
+        elapsed = 0;
+        startedAt = System.nanoTime();
+    }
+
+    public static long getProfiledNanos() {
+        return enabled ? elapsed + System.nanoTime() - startedAt : elapsed;
+    }
+
+    /**
+     * Returns the start time to pass to {@link #end}, or 0 when the profiler isn't running.
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void end(Object owner, @Nullable World world, BlockPos pos, long begin) {
+        if (begin == 0L || !enabled || world == null || world.isRemote) return;
+        long nanos = System.nanoTime() - begin;
+        BY_TYPE.computeIfAbsent(owner.getClass(), type -> new Stats()).add(nanos);
+        BY_SITE.computeIfAbsent(new Site(owner.getClass(), world.getRegistryKey().getLocation(), pos.toImmutable()), site -> new Stats()).add(nanos);
+    }
+
+    /**
+     * Records a call made on behalf of an entity, such as a goal, against the chunk the entity is in.
+     */
+    public static void end(Object owner, Entity entity, long begin) {
+        if (begin == 0L || !enabled) return;
+        end(owner, entity.world, new BlockPos(MathHelper.floor(entity.getX()) & ~15, 0, MathHelper.floor(entity.getZ()) & ~15), begin);
+    }
+
+    /**
+     * Called on the server thread right before a tile entity ticks. Only the mod's own tile entities are timed.
+     */
+    public static void beginTileEntity(TileEntity tileEntity) {
+        tileEntityStart = enabled && tileEntity.getClass().getName().startsWith(MOD_PACKAGE) ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Called on the server thread right after a tile entity ticked, to record the time since {@link #beginTileEntity}.
+     */
+    public static void endTileEntity(TileEntity tileEntity) {
+        if (tileEntityStart == 0L) return;
+        end(tileEntity, tileEntity.getWorld(), tileEntity.getPos(), tileEntityStart);
+        tileEntityStart = 0L;
+    }
+
+    public static List<Map.Entry<Class<?>, Stats>> getTypes() {
+        List<Map.Entry<Class<?>, Stats>> types = new ArrayList<>(BY_TYPE.entrySet());
+        types.sort(Comparator.comparingLong((Map.Entry<Class<?>, Stats> entry) -> entry.getValue().total).reversed());
+        return types;
+    }
+
+    public static List<Map.Entry<Site, Stats>> getTopSites(int limit) {
+        List<Map.Entry<Site, Stats>> sites = new ArrayList<>(BY_SITE.entrySet());
+        sites.sort(Comparator.comparingLong((Map.Entry<Site, Stats> entry) -> entry.getValue().total).reversed());
+        return sites.subList(0, Math.min(limit, sites.size()));
+    }
+
+    /**
+     * Writes everything recorded so far to a new file in the given directory and returns its path.
+     */
+    public static Path dump(Path directory, boolean csv) throws IOException {
+        Files.createDirectories(directory);
+        String name = "ticks-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + (csv ? ".csv" : ".json");
+        Path file = directory.resolve(name);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (csv) {
+                writeCsv(writer);
+            } else {
+                GSON.toJson(toJson(), writer);
+            }
+        }
+        return file;
+    }
+
+    private static JsonObject toJson() {
+        JsonObject root = new JsonObject();
+        root.addProperty("profiledNanos", getProfiledNanos());
+        JsonArray types = new JsonArray();
+        getTypes().forEach(entry -> {
+            JsonObject type = entry.getValue().toJson();
+            type.addProperty("type", entry.getKey().getName());
+            types.add(type);
+        });
+        root.add("types", types);
+        JsonArray sites = new JsonArray();
+        getTopSites(Integer.MAX_VALUE).forEach(entry -> {
+            JsonObject site = entry.getValue().toJson();
+            site.addProperty("type", entry.getKey().type.getName());
+            site.addProperty("dimension", entry.getKey().dimension.toString());
+            site.addProperty("x", entry.getKey().pos.getX());
+            site.addProperty("y", entry.getKey().pos.getY());
+            site.addProperty("z", entry.getKey().pos.getZ());
+            sites.add(site);
+        });
+        root.add("positions", sites);
+        return root;
+    }
+
+    private static void writeCsv(Writer writer) throws IOException {
+        writer.write("scope,type,dimension,x,y,z,count,total_ns,mean_ns,max_ns");
+        for (int i = 0; i < BUCKETS; i++) {
+            writer.write(',');
+            writer.write(bucketName(i));
+        }
+        writer.write('\n');
+        for (Map.Entry<Class<?>, Stats> entry : getTypes()) {
+            writer.write("type," + entry.getKey().getName() + ",,,,");
+            entry.getValue().writeCsv(writer);
+        }
+        for (Map.Entry<Site, Stats> entry : getTopSites(Integer.MAX_VALUE)) {
+            Site site = entry.getKey();
+            writer.write("position," + site.type.getName() + "," + site.dimension + "," + site.pos.getX() + "," + site.pos.getY() + "," + site.pos.getZ());
+            entry.getValue().writeCsv(writer);
+        }
+    }
+
+    private static String bucketName(int bucket) {
+        return bucket == BUCKETS - 1 ? ">=" + (1 << (bucket - 1)) + "us" : "<" + (1 << bucket) + "us";
+    }
+
+    public static class Stats {
+        private long count;
+        private long total;
+        private long max;
+        private final long[] histogram = new long[BUCKETS];
+
+        private void add(long nanos) {
+            count++;
+            total += nanos;
+            max = Math.max(max, nanos);
+            histogram[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos / 1000))]++;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public long getMean() {
+            return count == 0 ? 0 : total / count;
+        }
+
+        private JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("count", count);
+            json.addProperty("totalNanos", total);
+            json.addProperty("meanNanos", getMean());
+            json.addProperty("maxNanos", max);
+            JsonObject buckets = new JsonObject();
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.addProperty(bucketName(i), histogram[i]);
+            }
+            json.add("histogram", buckets);
+            return json;
+        }
+
+        private void writeCsv(Writer writer) throws IOException {
+            writer.write("," + count + "," + total + "," + getMean() + "," + max);
+            for (long bucket : histogram) {
+                writer.write("," + bucket);
+            }
+            writer.write('\n');
+        }
+    }
+
+    public static class Site {
+        private final Class<?> type;
+        private final ResourceLocation dimension;
+        private final BlockPos pos;
+
+        private Site(Class<?> type, ResourceLocation dimension, BlockPos pos) {
+            this.type = type;
+            this.dimension = dimension;
+            this.pos = pos;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public ResourceLocation getDimension() {
+            return dimension;
+        }
+
+        public BlockPos getPos() {
+            return pos;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Site site = (Site) o;
+            return type == site.type && dimension.equals(site.dimension) && pos.equals(site.pos);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, dimension, pos);
+        }
+    }
+}
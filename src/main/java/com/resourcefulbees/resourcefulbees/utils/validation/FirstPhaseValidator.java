@@ -18,6 +18,7 @@ public class FirstPhaseValidator {
         validatePrimaryColor(bee.getColorData(), bee.getName());
         validateSecondaryColor(bee.getColorData(), bee.getName());
         validateGlowColor(bee.getColorData(), bee.getName());
+        parseColors(bee.getColorData(), bee.getName());
         validateCentrifugeData(bee.getCentrifugeData(), bee.getName());
         validateBreeding(bee.getBreedData(), bee.getName());
         validateFlower(bee, bee.getName());
@@ -27,11 +28,21 @@ public class FirstPhaseValidator {
 
     public static boolean validate(HoneyBottleData honeyData) {
         validateHoneyBottleColor(honeyData, honeyData.getName());
+        honeyData.parseColor();
         validateEffectValues(honeyData, honeyData.getName());
         return true;
     }
 
 
+    private static void parseColors(ColorData colorData, String name) {
+        try {
+            colorData.parseColors();
+        } catch (IllegalArgumentException e) {
+            logError(name);
+            throw new IllegalArgumentException(String.format("Bee %1$s: %2$s", name, e.getMessage()), e);
+        }
+    }
+
     private static void validateHoneycombColor(ColorData colorData, String name) {
         if (colorData != null && colorData.hasHoneycombColor() && !Color.validate(colorData.getHoneycombColor())) {
             logError(name);